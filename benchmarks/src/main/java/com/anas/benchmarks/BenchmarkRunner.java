@@ -0,0 +1,33 @@
+package com.anas.benchmarks;
+
+import org.openjdk.jmh.Main;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entry point of {@code benchmarks.jar}. Takes the usual JMH command line and, unless told
+ * otherwise with {@code -rf}/{@code -rff}, writes the results as JSON to
+ * {@value #DEFAULT_RESULT_FILE} so that runs can be compared with {@code scripts/jmh-compare.sh}.
+ */
+public final class BenchmarkRunner {
+
+    static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> arguments = new ArrayList<>(List.of(args));
+        if (!arguments.contains("-rf")) {
+            arguments.addAll(0, List.of("-rf", "json"));
+        }
+        if (!arguments.contains("-rff")) {
+            Files.createDirectories(Path.of(DEFAULT_RESULT_FILE).getParent());
+            arguments.addAll(0, List.of("-rff", DEFAULT_RESULT_FILE));
+        }
+        Main.main(arguments.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,47 @@
+package com.anas.benchmarks;
+
+import com.anas.chatservice.chat.Chat;
+import com.anas.chatservice.chat.ChatMapper;
+import com.anas.chatservice.chat.ChatResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ChatMapper#toChatResponse} for one chat; the unread count walks the whole message list,
+ * so the cost grows with {@code messages}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChatMapperBenchmark {
+
+    @Param({"100", "10000"})
+    private int messages;
+
+    private final ChatMapper chatMapper = new ChatMapper();
+    private Chat chat;
+
+    @Setup
+    public void setUp() {
+        chat = Fixtures.chat(messages);
+    }
+
+    @Benchmark
+    public ChatResponse toChatResponse() {
+        return chatMapper.toChatResponse(chat, Fixtures.RECIPIENT_ID);
+    }
+}
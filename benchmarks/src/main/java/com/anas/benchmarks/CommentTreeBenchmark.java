@@ -0,0 +1,46 @@
+package com.anas.benchmarks;
+
+import com.anas.postservice.dto.CommentResponse;
+import com.anas.postservice.service.PostServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code PostServiceImpl.buildCommentTree}, reached through {@code getCommentsWithReplies} with a
+ * repository that hands back a prepared list, so only the tree building is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommentTreeBenchmark {
+
+    @Param({"1000", "10000"})
+    private int comments;
+
+    private PostServiceImpl postService;
+
+    @Setup
+    public void setUp() {
+        postService = Fixtures.postService(Fixtures.comments(comments));
+    }
+
+    @Benchmark
+    public List<CommentResponse> buildCommentTree() {
+        return postService.getCommentsWithReplies(1L);
+    }
+}
@@ -0,0 +1,159 @@
+package com.anas.benchmarks;
+
+import com.anas.chatservice.chat.Chat;
+import com.anas.chatservice.message.Message;
+import com.anas.chatservice.message.MessageResponse;
+import com.anas.chatservice.message.MessageState;
+import com.anas.chatservice.message.MessageType;
+import com.anas.chatservice.user.User;
+import com.anas.groupservice.entity.Group;
+import com.anas.postservice.dto.CommentResponse;
+import com.anas.postservice.entities.Comment;
+import com.anas.postservice.entities.Post;
+import com.anas.postservice.repository.CommentRepository;
+import com.anas.postservice.service.PostServiceImpl;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Entities and DTOs shaped like what the repositories return, built from a fixed seed so that
+ * every run measures the same data.
+ */
+final class Fixtures {
+
+    static final String SENDER_ID = "sender";
+    static final String RECIPIENT_ID = "recipient";
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private Fixtures() {
+    }
+
+    /**
+     * A chat with {@code messageCount} messages, newest first as loaded by the
+     * {@code @OrderBy} on {@link Chat#getMessages()}; the most recent tenth is still unread.
+     */
+    static Chat chat(int messageCount) {
+        User sender = user(SENDER_ID, "Sara", "Benali");
+        User recipient = user(RECIPIENT_ID, "Youssef", "Amrani");
+
+        Chat chat = new Chat();
+        chat.setId("chat-1");
+        chat.setSender(sender);
+        chat.setRecipient(recipient);
+
+        List<Message> messages = new ArrayList<>(messageCount);
+        for (int i = 0; i < messageCount; i++) {
+            boolean fromSender = i % 2 == 0;
+            Message message = new Message();
+            message.setId((long) i);
+            message.setChat(chat);
+            message.setContent("Message " + i + " about tomorrow's lab session");
+            message.setType(i % 25 == 0 ? MessageType.IMAGE : MessageType.TEXT);
+            message.setState(i >= messageCount - messageCount / 10 ? MessageState.SENT : MessageState.SEEN);
+            message.setSenderId(fromSender ? SENDER_ID : RECIPIENT_ID);
+            message.setReceiverId(fromSender ? RECIPIENT_ID : SENDER_ID);
+            message.setCreatedDate(START.plusSeconds(i));
+            messages.add(message);
+        }
+        Collections.reverse(messages);
+        chat.setMessages(messages);
+        return chat;
+    }
+
+    static List<MessageResponse> messageResponses(int count) {
+        List<MessageResponse> responses = new ArrayList<>(count);
+        for (Message message : chat(count).getMessages()) {
+            responses.add(MessageResponse.builder()
+                    .id(message.getId())
+                    .content(message.getContent())
+                    .type(message.getType())
+                    .state(message.getState())
+                    .senderId(message.getSenderId())
+                    .receiverId(message.getReceiverId())
+                    .createdAt(message.getCreatedDate())
+                    .build());
+        }
+        return responses;
+    }
+
+    /**
+     * Comments of a single post, newest first as returned by
+     * {@code findByPostIdOrderByCreatedDateDesc}. About a third are top-level; the rest reply
+     * to an earlier comment.
+     */
+    static List<Comment> comments(int count) {
+        Random random = new Random(42);
+        Post post = new Post();
+        post.setId(1L);
+
+        List<Comment> comments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Comment comment = new Comment();
+            comment.setId((long) i + 1);
+            comment.setPost(post);
+            comment.setAuthorId("user-" + random.nextInt(500));
+            comment.setContent("Comment " + i + " on the assignment deadline");
+            comment.setCreatedDate(START.plusSeconds(i));
+            if (i > 0 && random.nextInt(3) != 0) {
+                comment.setParentComment(comments.get(random.nextInt(i)));
+            }
+            comments.add(comment);
+        }
+        Collections.reverse(comments);
+        return comments;
+    }
+
+    /**
+     * A {@code PostServiceImpl} whose comment repository returns {@code comments} for any post.
+     * Only the comment repository is used on the comment read paths, so the other collaborators
+     * are left out.
+     */
+    static PostServiceImpl postService(List<Comment> comments) {
+        CommentRepository commentRepository = (CommentRepository) Proxy.newProxyInstance(
+                CommentRepository.class.getClassLoader(),
+                new Class<?>[]{CommentRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findByPostIdOrderByCreatedDateDesc")) {
+                        return comments;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        return new PostServiceImpl(null, null, commentRepository, null, null, null, null, null, null);
+    }
+
+    static List<CommentResponse> commentTree(int count) {
+        return postService(comments(count)).getCommentsWithReplies(1L);
+    }
+
+    static List<Group> groups(int count) {
+        List<Group> groups = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Group group = new Group();
+            group.setId((long) i + 1);
+            group.setName("Group " + i);
+            group.setDescription("Weekly exercises and announcements for group " + i);
+            group.setSubject(i % 2 == 0 ? "Mathematics" : "Computer Science");
+            group.setArchived(i % 10 == 0);
+            group.setCreatedBy("teacher-" + i % 20);
+            group.setCreatedDate(START.plusHours(i));
+            groups.add(group);
+        }
+        return groups;
+    }
+
+    private static User user(String id, String firstName, String lastName) {
+        User user = new User();
+        user.setId(id);
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setEmail(id + "@example.com");
+        user.setLastSeen(LocalDateTime.now());
+        return user;
+    }
+}
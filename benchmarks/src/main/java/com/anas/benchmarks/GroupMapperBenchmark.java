@@ -0,0 +1,52 @@
+package com.anas.benchmarks;
+
+import com.anas.groupservice.dto.GroupDTO;
+import com.anas.groupservice.entity.Group;
+import com.anas.groupservice.mapper.GroupMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GroupMapper#toDTO} over a list of groups, as done for the group listing endpoints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GroupMapperBenchmark {
+
+    @Param({"50", "1000"})
+    private int groups;
+
+    private final GroupMapper groupMapper = new GroupMapper();
+    private List<Group> groupList;
+
+    @Setup
+    public void setUp() {
+        groupList = Fixtures.groups(groups);
+    }
+
+    @Benchmark
+    public List<GroupDTO> toDTO() {
+        List<GroupDTO> dtos = new ArrayList<>(groupList.size());
+        for (Group group : groupList) {
+            dtos.add(groupMapper.toDTO(group, 25));
+        }
+        return dtos;
+    }
+}
@@ -0,0 +1,98 @@
+package com.anas.benchmarks;
+
+import com.anas.groupservice.entity.Notification;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persisting a group notification fanout through Hibernate into an embedded PostgreSQL, across
+ * the two settings the pooled-sequence change turned on: the id allocation size (1 takes a
+ * sequence round trip per row, 50 one per fifty rows) and JDBC insert batching (a batch size
+ * of 1 sends every insert on its own).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InsertBatchingBenchmark {
+
+    @Param({"1", "50"})
+    private int allocationSize;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    @Param({"500"})
+    private int rows;
+
+    private EmbeddedPostgres postgres;
+
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setUp() throws IOException {
+        postgres = EmbeddedPostgres.start();
+
+        Configuration configuration = new Configuration()
+                .addAnnotatedClass(Notification.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, postgres.getJdbcUrl("postgres", "postgres"))
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(batchSize))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true");
+        if (allocationSize == 1) {
+            configuration.addResource("notification-allocation-1.orm.xml");
+        }
+        sessionFactory = configuration.buildSessionFactory();
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        sessionFactory.inTransaction(session ->
+                session.createNativeMutationQuery("TRUNCATE notifications").executeUpdate());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        sessionFactory.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public void insertFanout() {
+        LocalDateTime now = LocalDateTime.now();
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < rows; i++) {
+                Notification notification = new Notification();
+                notification.setType("NEW_POST");
+                notification.setGroupId(1L);
+                notification.setGroupName("Algorithms");
+                notification.setMessage("New post in Algorithms");
+                notification.setUserId("student-" + i);
+                notification.setUserName("teacher");
+                notification.setCreatedDate(now);
+                session.persist(notification);
+            }
+        });
+    }
+}
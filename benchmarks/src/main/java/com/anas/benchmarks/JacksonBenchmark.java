@@ -0,0 +1,108 @@
+package com.anas.benchmarks;
+
+import com.anas.chatservice.message.MessageResponse;
+import com.anas.groupservice.dto.GroupDTO;
+import com.anas.groupservice.mapper.GroupMapper;
+import com.anas.postservice.dto.CommentResponse;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code ObjectMapper} of each service's {@code JacksonConfig}, writing and reading the
+ * largest payload that service returns: a chat's messages, the group list and a post's comment
+ * tree. Post's mapper is built from a plain {@link Jackson2ObjectMapperBuilder}, without the
+ * customizers Boot would apply.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonBenchmark {
+
+    private static final int MESSAGES = 500;
+    private static final int GROUPS = 1000;
+    private static final int COMMENTS = 1000;
+
+    private ObjectMapper chatMapper;
+    private ObjectMapper groupMapper;
+    private ObjectMapper postMapper;
+
+    private List<MessageResponse> messages;
+    private List<GroupDTO> groups;
+    private List<CommentResponse> commentTree;
+
+    private byte[] messagesJson;
+    private byte[] groupsJson;
+    private byte[] commentTreeJson;
+
+    private JavaType messagesType;
+    private JavaType groupsType;
+    private JavaType commentTreeType;
+
+    @Setup
+    public void setUp() throws IOException {
+        chatMapper = new com.anas.chatservice.config.JacksonConfig().objectMapper();
+        groupMapper = new com.anas.groupservice.config.JacksonConfig().objectMapper();
+        postMapper = new com.anas.postservice.config.JacksonConfig().objectMapper(Jackson2ObjectMapperBuilder.json());
+
+        messages = Fixtures.messageResponses(MESSAGES);
+        GroupMapper mapper = new GroupMapper();
+        groups = Fixtures.groups(GROUPS).stream().map(group -> mapper.toDTO(group, 25)).toList();
+        commentTree = Fixtures.commentTree(COMMENTS);
+
+        messagesJson = chatMapper.writeValueAsBytes(messages);
+        groupsJson = groupMapper.writeValueAsBytes(groups);
+        commentTreeJson = postMapper.writeValueAsBytes(commentTree);
+
+        messagesType = chatMapper.getTypeFactory().constructCollectionType(List.class, MessageResponse.class);
+        groupsType = groupMapper.getTypeFactory().constructCollectionType(List.class, GroupDTO.class);
+        commentTreeType = postMapper.getTypeFactory().constructCollectionType(List.class, CommentResponse.class);
+    }
+
+    @Benchmark
+    public byte[] chatWriteMessages() throws IOException {
+        return chatMapper.writeValueAsBytes(messages);
+    }
+
+    @Benchmark
+    public List<MessageResponse> chatReadMessages() throws IOException {
+        return chatMapper.readValue(messagesJson, messagesType);
+    }
+
+    @Benchmark
+    public byte[] groupWriteGroups() throws IOException {
+        return groupMapper.writeValueAsBytes(groups);
+    }
+
+    @Benchmark
+    public List<GroupDTO> groupReadGroups() throws IOException {
+        return groupMapper.readValue(groupsJson, groupsType);
+    }
+
+    @Benchmark
+    public byte[] postWriteCommentTree() throws IOException {
+        return postMapper.writeValueAsBytes(commentTree);
+    }
+
+    @Benchmark
+    public List<CommentResponse> postReadCommentTree() throws IOException {
+        return postMapper.readValue(commentTreeJson, commentTreeType);
+    }
+}
@@ -0,0 +1,84 @@
+package com.anas.benchmarks;
+
+import com.anas.chatservice.message.MessageResponse;
+import com.anas.postservice.dto.CommentResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The value serializers the services store in Redis with: chat's cache serializer from
+ * {@code RedisConfig.cacheConfiguration()} on the {@code messages} cache payload, and post's
+ * {@code RedisTemplate} value serializer on a comment tree. The template is never connected.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisSerializerBenchmark {
+
+    private static final int MESSAGES = 500;
+    private static final int COMMENTS = 1000;
+
+    private RedisSerializationContext.SerializationPair<Object> chatCacheValues;
+    private RedisSerializer<Object> postTemplateValues;
+
+    private List<MessageResponse> messages;
+    private List<CommentResponse> commentTree;
+
+    private ByteBuffer messagesBytes;
+    private byte[] commentTreeBytes;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        chatCacheValues = new com.anas.chatservice.config.RedisConfig().cacheConfiguration().getValueSerializationPair();
+        postTemplateValues = (RedisSerializer<Object>) new com.anas.postservice.config.RedisConfig()
+                .redisTemplate(new LettuceConnectionFactory(),
+                        new com.anas.postservice.config.JacksonConfig().objectMapper(Jackson2ObjectMapperBuilder.json()))
+                .getValueSerializer();
+
+        messages = Fixtures.messageResponses(MESSAGES);
+        commentTree = Fixtures.commentTree(COMMENTS);
+
+        messagesBytes = chatCacheValues.write(messages);
+        commentTreeBytes = postTemplateValues.serialize(commentTree);
+    }
+
+    @Benchmark
+    public ByteBuffer chatWriteMessages() {
+        return chatCacheValues.write(messages);
+    }
+
+    @Benchmark
+    public Object chatReadMessages() {
+        return chatCacheValues.read(messagesBytes.duplicate());
+    }
+
+    @Benchmark
+    public byte[] postWriteCommentTree() {
+        return postTemplateValues.serialize(commentTree);
+    }
+
+    @Benchmark
+    public Object postReadCommentTree() {
+        return postTemplateValues.deserialize(commentTreeBytes);
+    }
+}
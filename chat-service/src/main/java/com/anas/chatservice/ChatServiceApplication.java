@@ -1,5 +1,7 @@
 package com.anas.chatservice;
 
+import com.anas.common.file.ImageVariantConfig;
+import com.anas.common.notification.NotificationRetentionJob;
 import io.swagger.v3.oas.annotations.enums.SecuritySchemeIn;
 import io.swagger.v3.oas.annotations.enums.SecuritySchemeType;
 import io.swagger.v3.oas.annotations.security.OAuthFlow;
@@ -8,8 +10,10 @@ import io.swagger.v3.oas.annotations.security.SecurityScheme;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing
@@ -30,6 +34,8 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 )
 @EnableCaching
+@EnableScheduling
+@Import({ImageVariantConfig.class, NotificationRetentionJob.class})
 public class ChatServiceApplication {
 
     public static void main(String[] args) {
@@ -3,6 +3,7 @@ package com.anas.chatservice.chat;
 
 import com.anas.chatservice.user.User;
 import com.anas.chatservice.user.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
@@ -25,6 +26,7 @@ public class ChatService {
 
     @Transactional(readOnly = true)
     @Cacheable(value = "chats",key="#currentUser.name")
+    @Timed(value = "chat.chats.by-receiver", histogram = true)
     public List<ChatResponse> getChatsByReceiverId(Authentication currentUser) {
         final String userId = currentUser.getName();
         return chatRepository.findChatsBySenderId(userId)
@@ -13,11 +13,17 @@ import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSeriali
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 
 import java.time.Duration;
+import java.util.Set;
 
 @Configuration
 @EnableCaching
 public class RedisConfig {
 
+    // Created up front so that each one gets its hit/miss metrics at startup
+    private static final Set<String> CACHE_NAMES = Set.of(
+            "users", "users:id", "chats", "messages",
+            "notifications:user", "notifications:user:unread", "notifications:chat", "notifications:user:count");
+
     @Bean
     public RedisCacheConfiguration cacheConfiguration() {
         // Crée un ObjectMapper qui sait gérer LocalDateTime
@@ -36,6 +42,8 @@ public class RedisConfig {
     public RedisCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
         return RedisCacheManager.builder(redisConnectionFactory)
                 .cacheDefaults(cacheConfiguration())
+                .initialCacheNames(CACHE_NAMES)
+                .enableStatistics()
                 .build();
     }
 }
@@ -1,5 +1,7 @@
 package com.anas.chatservice.file;
 
+import com.anas.common.file.ImageVariantService;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.Nonnull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +26,20 @@ public class FileService {
     @Value("${application.file.uploads.media-output-path}")
     private String fileUploadPath;
 
+    private final ImageVariantService imageVariantService;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Reads a stored file, counting the bytes as file.io.bytes reads.
+     *
+     * @return the file's content, or an empty array if it cannot be read
+     */
+    public byte[] readFile(String filePath) {
+        byte[] content = FileUtils.readFileFromLocation(filePath);
+        meterRegistry.counter("file.io.bytes", "operation", "read").increment(content.length);
+        return content;
+    }
+
     public String saveFile(
             @Nonnull MultipartFile sourceFile,
             @Nonnull String userId
@@ -50,8 +66,11 @@ public class FileService {
         String targetFilePath = finalUploadPath + separator + currentTimeMillis() + "." + fileExtension;
         Path targetPath = Paths.get(targetFilePath);
         try {
-            Files.write(targetPath, sourceFile.getBytes());
+            byte[] content = sourceFile.getBytes();
+            Files.write(targetPath, content);
+            meterRegistry.counter("file.io.bytes", "operation", "write").increment(content.length);
             log.info("File saved to: " + targetFilePath);
+            imageVariantService.generateVariantsAsync(targetFilePath);
             return targetFilePath;
         } catch (IOException e) {
             log.error("File was not saved", e);
@@ -37,7 +37,7 @@ import java.io.Serializable;
 public class Message extends BaseAuditingEntity implements Serializable {
 
     @Id
-    @SequenceGenerator(name = "msg_seq", sequenceName = "msg_seq", allocationSize = 1)
+    @SequenceGenerator(name = "msg_seq", sequenceName = "msg_seq", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "msg_seq")
     private Long id;
     @Column(columnDefinition = "TEXT")
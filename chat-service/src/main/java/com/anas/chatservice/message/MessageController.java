@@ -3,7 +3,11 @@ package com.anas.chatservice.message;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,6 +22,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.file.Path;
 import java.util.List;
 
 @RestController
@@ -51,6 +56,19 @@ public class MessageController {
         messageService.setMessagesToSeen(chatId, authentication);
     }
 
+    @GetMapping("/{message-id}/media")
+    public ResponseEntity<Resource> getMessageMedia(
+            @PathVariable("message-id") Long messageId,
+            @RequestParam(value = "size", required = false) String size,
+            Authentication authentication
+    ) {
+        Path media = messageService.getMessageMedia(messageId, size, authentication);
+        Resource resource = new FileSystemResource(media);
+        return ResponseEntity.ok()
+                .contentType(MediaTypeFactory.getMediaType(resource).orElse(MediaType.APPLICATION_OCTET_STREAM))
+                .body(resource);
+    }
+
     @GetMapping("/chat/{chat-id}")
     public ResponseEntity<List<MessageResponse>> getAllMessages(
             @PathVariable("chat-id") String chatId
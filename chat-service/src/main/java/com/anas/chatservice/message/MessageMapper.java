@@ -1,10 +1,15 @@
 package com.anas.chatservice.message;
 
-import com.anas.chatservice.file.FileUtils;
+import com.anas.chatservice.file.FileService;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 @Service
+@RequiredArgsConstructor
 public class MessageMapper {
+
+    private final FileService fileService;
+
     public MessageResponse toMessageResponse(Message message) {
         return MessageResponse.builder()
                 .id(message.getId())
@@ -14,7 +19,7 @@ public class MessageMapper {
                 .type(message.getType())
                 .state(message.getState())
                 .createdAt(message.getCreatedDate())
-                .media(FileUtils.readFileFromLocation(message.getMediaFilePath()))
+                .media(fileService.readFile(message.getMediaFilePath()))
                 .build();
     }
 }
@@ -3,19 +3,23 @@ package com.anas.chatservice.message;
 import com.anas.chatservice.chat.Chat;
 import com.anas.chatservice.chat.ChatRepository;
 import com.anas.chatservice.file.FileService;
-import com.anas.chatservice.file.FileUtils;
 import com.anas.chatservice.notification.Notification;
 import com.anas.chatservice.notification.NotificationService;
 import com.anas.chatservice.notification.NotificationType;
+import com.anas.common.file.ImageVariantService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
 
 @Service
@@ -27,8 +31,10 @@ public class MessageService {
     private final MessageMapper mapper;
     private final NotificationService notificationService;
     private final FileService fileService;
+    private final ImageVariantService imageVariantService;
 
     @CacheEvict(value = "messages",key ="#messageRequest.chatId")
+    @Timed(value = "chat.message.save", histogram = true)
     public void saveMessage(MessageRequest messageRequest) {
         Chat chat = chatRepository.findById(messageRequest.getChatId())
                 .orElseThrow(() -> new EntityNotFoundException("Chat not found"));
@@ -106,12 +112,30 @@ public class MessageService {
         notification.setSenderId(senderId);
         notification.setReceiverId(receiverId);
         notification.setMessageType(MessageType.IMAGE);
-        notification.setMedia(FileUtils.readFileFromLocation(filePath));
+        notification.setMedia(fileService.readFile(filePath));
         notification.setRead(false);
 
         notificationService.createAndSendNotification(receiverId, notification);
     }
 
+    /**
+     * Locates the media file of a message, at the requested size when that variant exists.
+     */
+    public Path getMessageMedia(Long messageId, String size, Authentication authentication) {
+        Message message = messageRepository.findById(messageId)
+                .orElseThrow(() -> new EntityNotFoundException("Message not found"));
+
+        String userId = authentication.getName();
+        if (!userId.equals(message.getSenderId()) && !userId.equals(message.getReceiverId())) {
+            throw new AccessDeniedException("Not a participant of this chat");
+        }
+        if (message.getMediaFilePath() == null || message.getMediaFilePath().isEmpty()) {
+            throw new EntityNotFoundException("Message has no media");
+        }
+
+        return imageVariantService.resolve(Paths.get(message.getMediaFilePath()), ImageVariantService.Size.from(size));
+    }
+
     private String getSenderId(Chat chat, Authentication authentication) {
         if (chat.getSender().getId().equals(authentication.getName())) {
             return chat.getSender().getId();
@@ -19,7 +19,7 @@ import java.io.Serializable;
 public class Notification extends BaseAuditingEntity implements Serializable  {
 
     @Id
-    @SequenceGenerator(name = "notification_seq", sequenceName = "notification_seq", allocationSize = 1)
+    @SequenceGenerator(name = "notification_seq", sequenceName = "notification_seq", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq")
     private Long id;
 
@@ -1,20 +1,42 @@
 package com.anas.chatservice.notification;
 
+import com.anas.common.notification.ReadNotificationStore;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
+public interface NotificationRepository extends JpaRepository<Notification, Long>, ReadNotificationStore {
 
     List<Notification> findByReceiverIdOrderByCreatedDateDesc(String receiverId);
 
     List<Notification> findByReceiverIdAndIsReadOrderByCreatedDateDesc(String receiverId, boolean isRead);
 
+    Slice<Notification> findByReceiverIdOrderByCreatedDateDescIdDesc(String receiverId, Pageable pageable);
+
+    Slice<Notification> findByReceiverIdAndIsReadOrderByCreatedDateDescIdDesc(String receiverId, boolean isRead, Pageable pageable);
+
+    // Keyset on (createdDate, id): rows sharing the cursor's timestamp are neither skipped nor repeated
+    @Query("SELECT n FROM Notification n WHERE n.receiverId = :receiverId " +
+            "AND (n.createdDate, n.id) < (:before, :beforeId) " +
+            "ORDER BY n.createdDate DESC, n.id DESC")
+    Slice<Notification> findPageByReceiverIdBefore(@Param("receiverId") String receiverId, @Param("before") LocalDateTime before,
+                                                @Param("beforeId") Long beforeId, Pageable pageable);
+
+    @Query("SELECT n FROM Notification n WHERE n.receiverId = :receiverId AND n.isRead = false " +
+            "AND (n.createdDate, n.id) < (:before, :beforeId) " +
+            "ORDER BY n.createdDate DESC, n.id DESC")
+    Slice<Notification> findUnreadPageByReceiverIdBefore(@Param("receiverId") String receiverId, @Param("before") LocalDateTime before,
+                                                      @Param("beforeId") Long beforeId, Pageable pageable);
+
     List<Notification> findByChatIdOrderByCreatedDateDesc(String chatId);
 
     List<Notification> findByReceiverIdAndChatIdOrderByCreatedDateDesc(String receiverId, String chatId);
@@ -25,4 +47,12 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Modifying
     @Query("UPDATE Notification n SET n.isRead = true WHERE n.receiverId = :receiverId AND n.isRead = false")
     void markAllAsReadByReceiverId(@Param("receiverId") String receiverId);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM notifications WHERE id IN (" +
+            "SELECT id FROM notifications WHERE is_read = true AND created_date < :cutoff LIMIT :batchSize)",
+            nativeQuery = true)
+    @Override
+    int deleteReadNotificationsOlderThan(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
 }
\ No newline at end of file
@@ -3,13 +3,17 @@ package com.anas.chatservice.notification;
 import jakarta.ws.rs.NotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -22,6 +26,12 @@ public class NotificationService {
     private final NotificationRepository notificationRepository;
     private final NotificationMapper notificationMapper;
 
+    @Value("${application.notifications.inbox.max-size:100}")
+    private int inboxMaxSize;
+
+    @Value("${application.notifications.inbox.max-page-size:50}")
+    private int maxPageSize;
+
     @Transactional
     @Caching(evict = {
             @CacheEvict(value = "notifications:user", key = "#userId"),
@@ -59,7 +69,7 @@ public class NotificationService {
     }
     @Cacheable(value = "notifications:user", key = "#userId")
     public List<NotificationDTO> getUserNotifications(String userId) {
-        return notificationRepository.findByReceiverIdOrderByCreatedDateDesc(userId)
+        return notificationRepository.findByReceiverIdOrderByCreatedDateDescIdDesc(userId, PageRequest.of(0, inboxMaxSize))
                 .stream()
                 .map(notificationMapper::toDTO)
                 .toList();
@@ -67,11 +77,38 @@ public class NotificationService {
     @Cacheable(value = "notifications:user:unread", key = "#userId")
 
     public List<NotificationDTO> getUnreadUserNotifications(String userId) {
-        return notificationRepository.findByReceiverIdAndIsReadOrderByCreatedDateDesc(userId, false)
+        return notificationRepository.findByReceiverIdAndIsReadOrderByCreatedDateDescIdDesc(userId, false, PageRequest.of(0, inboxMaxSize))
                 .stream()
                 .map(notificationMapper::toDTO)
                 .toList();
     }
+    public NotificationPageResponse getUserNotificationsPage(String userId, LocalDateTime before, Long beforeId,
+                                                             boolean unreadOnly, int size) {
+        PageRequest pageRequest = PageRequest.of(0, Math.max(1, Math.min(size, maxPageSize)));
+        Slice<Notification> slice;
+        if (before == null) {
+            slice = unreadOnly
+                    ? notificationRepository.findByReceiverIdAndIsReadOrderByCreatedDateDescIdDesc(userId, false, pageRequest)
+                    : notificationRepository.findByReceiverIdOrderByCreatedDateDescIdDesc(userId, pageRequest);
+        } else {
+            // Without an id the cursor only admits strictly older rows, as before
+            long tieBreak = beforeId != null ? beforeId : 0L;
+            slice = unreadOnly
+                    ? notificationRepository.findUnreadPageByReceiverIdBefore(userId, before, tieBreak, pageRequest)
+                    : notificationRepository.findPageByReceiverIdBefore(userId, before, tieBreak, pageRequest);
+        }
+
+        List<Notification> notifications = slice.getContent();
+        Notification last = notifications.isEmpty() ? null : notifications.get(notifications.size() - 1);
+
+        return new NotificationPageResponse(
+                notifications.stream().map(notificationMapper::toDTO).toList(),
+                last != null ? last.getCreatedDate() : null,
+                last != null ? last.getId() : null,
+                slice.hasNext()
+        );
+    }
+
     @Cacheable(value = "notifications:chat", key = "#chatId")
 
     public List<NotificationDTO> getChatNotifications(String chatId) {
@@ -1,5 +1,8 @@
 package com.anas.chatservice.security;
 
+import com.anas.common.security.InternalIdentityJwtDecoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
@@ -7,6 +10,7 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
@@ -40,7 +44,9 @@ public class SecurityConfig {
                                         "/swagger-ui/**",
                                         "/webjars/**",
                                         "/swagger-ui.html",
-                                        "/ws/**")
+                                        "/ws/**",
+                                        "/actuator/health/**",
+                                        "/actuator/prometheus")
                                 .permitAll()
                                 .anyRequest().authenticated()
                         )
@@ -50,6 +56,14 @@ public class SecurityConfig {
         return http.build();
     }
 
+    @Bean
+    public JwtDecoder jwtDecoder(OAuth2ResourceServerProperties properties,
+                                 @Value("${application.internal-identity.secret:}") String internalIdentitySecret) {
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withJwkSetUri(properties.getJwt().getJwkSetUri()).build();
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(properties.getJwt().getIssuerUri()));
+        return new InternalIdentityJwtDecoder(decoder, internalIdentitySecret);
+    }
+
 
 
 //    @Bean
@@ -0,0 +1,6 @@
+-- Ids are now allocated in blocks of 50 by Hibernate's pooled optimizer, so every
+-- sequence has to advance by the same step. On an empty database nothing exists yet
+-- and Hibernate creates the sequences with the right increment itself.
+
+ALTER SEQUENCE IF EXISTS msg_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS notification_seq INCREMENT BY 50;
@@ -0,0 +1,98 @@
+-- Baseline schema, previously maintained by ddl-auto: update. Every statement is
+-- guarded so databases that Hibernate already created are left as they are and
+-- only gain the missing indexes.
+
+CREATE SEQUENCE IF NOT EXISTS msg_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS notification_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS users (
+    id                 VARCHAR(255) NOT NULL PRIMARY KEY,
+    first_name         VARCHAR(255),
+    last_name          VARCHAR(255),
+    email              VARCHAR(255),
+    last_seen          TIMESTAMP(6),
+    created_date       TIMESTAMP(6) NOT NULL,
+    last_modified_date TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS chat (
+    id                 VARCHAR(255) NOT NULL PRIMARY KEY,
+    sender_id          VARCHAR(255),
+    recipient_id       VARCHAR(255),
+    created_date       TIMESTAMP(6) NOT NULL,
+    last_modified_date TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS messages (
+    id                 BIGINT NOT NULL PRIMARY KEY,
+    content            TEXT,
+    state              VARCHAR(255),
+    type               VARCHAR(255),
+    chat_id            VARCHAR(255),
+    sender_id          VARCHAR(255) NOT NULL,
+    receiver_id        VARCHAR(255) NOT NULL,
+    media_file_path    VARCHAR(255),
+    created_date       TIMESTAMP(6) NOT NULL,
+    last_modified_date TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS notifications (
+    id                  BIGINT NOT NULL PRIMARY KEY,
+    chat_id             VARCHAR(255),
+    content             TEXT,
+    sender_id           VARCHAR(255),
+    receiver_id         VARCHAR(255),
+    chat_name           VARCHAR(255),
+    message_type        VARCHAR(255),
+    notification_type   VARCHAR(255),
+    media               BYTEA,
+    is_read             BOOLEAN,
+    related_entity_id   BIGINT,
+    related_entity_type VARCHAR(255),
+    created_date        TIMESTAMP(6) NOT NULL,
+    last_modified_date  TIMESTAMP(6)
+);
+
+DO $$
+DECLARE
+    fk RECORD;
+BEGIN
+    FOR fk IN
+        SELECT * FROM (VALUES
+            ('chat', 'sender_id', 'users', 'fk_chat_sender'),
+            ('chat', 'recipient_id', 'users', 'fk_chat_recipient'),
+            ('messages', 'chat_id', 'chat', 'fk_messages_chat')
+        ) AS v(table_name, column_name, referenced_table, constraint_name)
+    LOOP
+        IF NOT EXISTS (
+            SELECT 1
+            FROM pg_constraint c
+            JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+            WHERE c.contype = 'f'
+              AND c.conrelid = fk.table_name::regclass
+              AND a.attname = fk.column_name
+        ) THEN
+            EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I FOREIGN KEY (%I) REFERENCES %I (id)',
+                           fk.table_name, fk.constraint_name, fk.column_name, fk.referenced_table);
+        END IF;
+    END LOOP;
+END $$;
+
+-- UserRepository.findByEmail
+CREATE INDEX IF NOT EXISTS idx_users_email ON users (email);
+
+-- ChatRepository: sender OR recipient lookups are answered with a bitmap OR of both
+CREATE INDEX IF NOT EXISTS idx_chat_sender ON chat (sender_id);
+CREATE INDEX IF NOT EXISTS idx_chat_recipient ON chat (recipient_id);
+
+-- MessageRepository.findMessagesByChatId / setMessagesToSeenByChatId
+CREATE INDEX IF NOT EXISTS idx_messages_chat_created ON messages (chat_id, created_date);
+
+-- NotificationRepository inbox, unread count and mark-all-read
+CREATE INDEX IF NOT EXISTS idx_notifications_receiver_read_created ON notifications (receiver_id, is_read, created_date);
+-- NotificationRepository.findByReceiverIdAndChatIdOrderByCreatedDateDesc
+CREATE INDEX IF NOT EXISTS idx_notifications_receiver_chat_created ON notifications (receiver_id, chat_id, created_date);
+-- NotificationRepository.findByChatIdOrderByCreatedDateDesc
+CREATE INDEX IF NOT EXISTS idx_notifications_chat_created ON notifications (chat_id, created_date);
+-- NotificationRetentionJob
+CREATE INDEX IF NOT EXISTS idx_notifications_read_created ON notifications (is_read, created_date);
@@ -0,0 +1,8 @@
+-- Inbox pages are ordered and cursored on (created_date, id) so notifications that
+-- share a timestamp are neither skipped nor repeated across pages. Carry id in the
+-- inbox index, and give the "all" inbox a prefix that does not go through is_read.
+DROP INDEX IF EXISTS idx_notifications_receiver_read_created;
+
+CREATE INDEX IF NOT EXISTS idx_notifications_receiver_read_created_id ON notifications (receiver_id, is_read, created_date, id);
+
+CREATE INDEX IF NOT EXISTS idx_notifications_receiver_created_id ON notifications (receiver_id, created_date, id);
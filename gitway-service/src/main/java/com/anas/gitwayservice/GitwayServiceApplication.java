@@ -1,15 +1,23 @@
 package com.anas.gitwayservice;
 
+import com.anas.gitwayservice.config.HedgingProperties;
+import com.anas.gitwayservice.config.RateLimitProperties;
+import com.anas.gitwayservice.config.ResponseCacheProperties;
+import com.anas.gitwayservice.loadbalancer.LatencyAwareLoadBalancerConfiguration;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.client.discovery.ReactiveDiscoveryClient;
 import org.springframework.cloud.gateway.discovery.DiscoveryClientRouteDefinitionLocator;
 import org.springframework.cloud.gateway.discovery.DiscoveryLocatorProperties;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
 import org.springframework.context.annotation.Bean;
 
 @SpringBootApplication
 @EnableDiscoveryClient
+@EnableConfigurationProperties({RateLimitProperties.class, ResponseCacheProperties.class, HedgingProperties.class})
+@LoadBalancerClients(defaultConfiguration = LatencyAwareLoadBalancerConfiguration.class)
 public class GitwayServiceApplication {
 
     public static void main(String[] args) {
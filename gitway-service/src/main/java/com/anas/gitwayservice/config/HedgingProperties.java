@@ -0,0 +1,63 @@
+package com.anas.gitwayservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Which GET endpoints the gateway may send twice, and how long it waits before it does.
+ * Only small, idempotent JSON reads belong here: a hedged download or upload would move its
+ * whole body twice.
+ */
+@ConfigurationProperties(prefix = "application.hedging")
+public class HedgingProperties {
+
+    // Used until a path has min-samples latencies of its own
+    private Duration initialDelay = Duration.ofMillis(500);
+    private Duration minDelay = Duration.ofMillis(20);
+    private int windowSize = 200;
+    private int minSamples = 20;
+    private List<String> paths = new ArrayList<>();
+
+    public Duration getInitialDelay() {
+        return initialDelay;
+    }
+
+    public void setInitialDelay(Duration initialDelay) {
+        this.initialDelay = initialDelay;
+    }
+
+    public Duration getMinDelay() {
+        return minDelay;
+    }
+
+    public void setMinDelay(Duration minDelay) {
+        this.minDelay = minDelay;
+    }
+
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    public void setWindowSize(int windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    public int getMinSamples() {
+        return minSamples;
+    }
+
+    public void setMinSamples(int minSamples) {
+        this.minSamples = minSamples;
+    }
+
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    public void setPaths(List<String> paths) {
+        this.paths = paths;
+    }
+}
@@ -0,0 +1,86 @@
+package com.anas.gitwayservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.socket.client.ReactorNettyWebSocketClient;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.WebsocketClientSpec;
+
+@Configuration
+public class HttpClientConfig {
+
+    // Added by Netty when an HTTP/2 response is converted back to HTTP/1 objects
+    private static final String HTTP2_STREAM_ID = "x-http2-stream-id";
+
+    @Value("${application.backend-http2:true}")
+    private boolean backendHttp2;
+
+    // Cleartext HTTP/2 to the backends, negotiated by upgrade so an HTTP/1.1-only instance still works.
+    // Every request to an instance then shares a few multiplexed connections from the pool.
+    @Bean
+    public HttpClientCustomizer backendProtocolCustomizer() {
+        return httpClient -> backendHttp2
+                ? httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11)
+                : httpClient;
+    }
+
+    // A WebSocket upgrade cannot share the h2c upgrade, so proxied WebSockets keep to HTTP/1.1
+    @Bean
+    public static BeanPostProcessor webSocketClientProtocolPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof ReactorNettyWebSocketClient client)) {
+                    return bean;
+                }
+                WebsocketClientSpec spec = client.getWebsocketClientSpec();
+                return new ReactorNettyWebSocketClient(client.getHttpClient().protocol(HttpProtocol.HTTP11),
+                        () -> WebsocketClientSpec.builder()
+                                .maxFramePayloadLength(spec.maxFramePayloadLength())
+                                .handlePing(spec.handlePing())
+                                .compress(spec.compress()));
+            }
+        };
+    }
+
+    // Backends answer uncompressed, so the gateway compresses once for the client and caches plain bodies.
+    // Only the proxied copy is changed: the server still negotiates with the client's Accept-Encoding.
+    @Bean
+    public HttpHeadersFilter acceptEncodingHeadersFilter() {
+        return (input, exchange) -> without(input, HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Bean
+    public HttpHeadersFilter http2StreamIdHeadersFilter() {
+        return new HttpHeadersFilter() {
+            @Override
+            public HttpHeaders filter(HttpHeaders input, ServerWebExchange exchange) {
+                return without(input, HTTP2_STREAM_ID);
+            }
+
+            @Override
+            public boolean supports(Type type) {
+                return type == Type.RESPONSE;
+            }
+        };
+    }
+
+    private static HttpHeaders without(HttpHeaders input, String name) {
+        if (!input.containsKey(name)) {
+            return input;
+        }
+        HttpHeaders filtered = new HttpHeaders();
+        input.forEach((header, values) -> {
+            if (!header.equalsIgnoreCase(name)) {
+                filtered.put(header, values);
+            }
+        });
+        return filtered;
+    }
+}
@@ -0,0 +1,59 @@
+package com.anas.gitwayservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-route request quotas, keyed by route id. Routes without an entry use the default quota.
+ */
+@ConfigurationProperties(prefix = "application.rate-limit")
+public class RateLimitProperties {
+
+    private Quota defaultQuota = new Quota();
+    private Map<String, Quota> routes = new HashMap<>();
+
+    public Quota quotaFor(String routeId) {
+        return routes.getOrDefault(routeId, defaultQuota);
+    }
+
+    public Quota getDefault() {
+        return defaultQuota;
+    }
+
+    public void setDefault(Quota defaultQuota) {
+        this.defaultQuota = defaultQuota;
+    }
+
+    public Map<String, Quota> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(Map<String, Quota> routes) {
+        this.routes = routes;
+    }
+
+    public static class Quota {
+
+        private long capacity = 100;
+        private Duration refillPeriod = Duration.ofMinutes(1);
+
+        public long getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(long capacity) {
+            this.capacity = capacity;
+        }
+
+        public Duration getRefillPeriod() {
+            return refillPeriod;
+        }
+
+        public void setRefillPeriod(Duration refillPeriod) {
+            this.refillPeriod = refillPeriod;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.anas.gitwayservice.config;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.circuitbreaker.resilience4j.ReactiveResilience4JCircuitBreakerFactory;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JConfigBuilder;
+import org.springframework.cloud.client.circuitbreaker.Customizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class ResilienceConfig {
+
+    @Value("${application.circuit-breaker.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+
+    @Value("${application.circuit-breaker.slow-call-threshold:3s}")
+    private Duration slowCallThreshold;
+
+    @Value("${application.circuit-breaker.window-size:50}")
+    private int windowSize;
+
+    @Value("${application.circuit-breaker.open-duration:10s}")
+    private Duration openDuration;
+
+    // Shared by every route's CircuitBreaker filter; each route still gets its own breaker by name
+    @Bean
+    public Customizer<ReactiveResilience4JCircuitBreakerFactory> circuitBreakerDefaults() {
+        CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+                .slidingWindowSize(windowSize)
+                .minimumNumberOfCalls(Math.max(1, windowSize / 5))
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallThreshold)
+                .slowCallRateThreshold(failureRateThreshold)
+                .waitDurationInOpenState(openDuration)
+                .permittedNumberOfCallsInHalfOpenState(5)
+                .build();
+        return factory -> factory.configureDefault(id -> new Resilience4JConfigBuilder(id)
+                .circuitBreakerConfig(circuitBreakerConfig)
+                .build());
+    }
+}
@@ -0,0 +1,66 @@
+package com.anas.gitwayservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Which GET endpoints the gateway may cache, and how much it may hold. How long a response
+ * stays fresh is decided by the backend's Cache-Control header.
+ */
+@ConfigurationProperties(prefix = "application.response-cache")
+public class ResponseCacheProperties {
+
+    private int maxEntries = 1000;
+    private DataSize maxEntrySize = DataSize.ofKilobytes(256);
+    private List<CachedPath> paths = new ArrayList<>();
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public DataSize getMaxEntrySize() {
+        return maxEntrySize;
+    }
+
+    public void setMaxEntrySize(DataSize maxEntrySize) {
+        this.maxEntrySize = maxEntrySize;
+    }
+
+    public List<CachedPath> getPaths() {
+        return paths;
+    }
+
+    public void setPaths(List<CachedPath> paths) {
+        this.paths = paths;
+    }
+
+    public static class CachedPath {
+
+        private String pattern;
+        // Keep one entry per caller instead of one shared by everybody
+        private boolean varyByUser;
+
+        public String getPattern() {
+            return pattern;
+        }
+
+        public void setPattern(String pattern) {
+            this.pattern = pattern;
+        }
+
+        public boolean isVaryByUser() {
+            return varyByUser;
+        }
+
+        public void setVaryByUser(boolean varyByUser) {
+            this.varyByUser = varyByUser;
+        }
+    }
+}
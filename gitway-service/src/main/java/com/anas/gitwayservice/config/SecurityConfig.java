@@ -19,7 +19,8 @@ public class SecurityConfig {
         corsConfig.setAllowedHeaders(Arrays.asList("*"));
         corsConfig.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
         corsConfig.setAllowCredentials(true);
-        corsConfig.setExposedHeaders(Arrays.asList("Authorization"));
+        // Link and X-Result-Truncated mark a capped POST /api/v1/groups/search result
+        corsConfig.setExposedHeaders(Arrays.asList("Authorization", "Link", "X-Result-Truncated"));
         corsConfig.setMaxAge(3600L);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
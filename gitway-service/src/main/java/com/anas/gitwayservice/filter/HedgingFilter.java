@@ -0,0 +1,221 @@
+package com.anas.gitwayservice.filter;
+
+import com.anas.gitwayservice.config.HedgingProperties;
+import com.anas.gitwayservice.loadbalancer.InstanceStats;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.RouteMetadataUtils;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sends a second copy of an idempotent GET when the first has not answered within the path's
+ * recent p95 latency, and forwards whichever response arrives first; the slower request is
+ * cancelled. Applies to the paths listed in {@link HedgingProperties}.
+ * <p>
+ * The delay is based on the latency of the first attempt of every request. When the hedge
+ * wins, the first attempt is left to finish in the background, its latency is recorded and
+ * its body discarded. Recording only the winner would drop the slow tail that hedging cut
+ * off, and the p95 would drift down.
+ * <p>
+ * Runs in place of the Netty routing filter for those requests. For {@code lb://} routes each
+ * attempt goes through the load balancer, so the hedge normally lands on another instance.
+ */
+@Component
+public class HedgingFilter implements GlobalFilter, Ordered {
+
+    // After RouteToRequestUrlFilter (10000), before ReactiveLoadBalancerClientFilter (10150)
+    private static final int ORDER = 10100;
+
+    private final ObjectProvider<List<HttpHeadersFilter>> headersFilters;
+    private final HttpClientProperties httpClientProperties;
+    private final HedgingProperties properties;
+    private final WebClient webClient;
+    private final WebClient loadBalancedWebClient;
+    private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+
+    private List<PathPattern> hedgedPaths;
+
+    public HedgingFilter(ObjectProvider<List<HttpHeadersFilter>> headersFilters, HttpClientProperties httpClientProperties,
+                         HedgingProperties properties, HttpClient httpClient,
+                         ReactorLoadBalancerExchangeFilterFunction loadBalancerFunction, InstanceStats instanceStats) {
+        this.headersFilters = headersFilters;
+        this.httpClientProperties = httpClientProperties;
+        this.properties = properties;
+        ReactorClientHttpConnector connector = new ReactorClientHttpConnector(httpClient);
+        this.webClient = WebClient.builder().clientConnector(connector).build();
+        this.loadBalancedWebClient = WebClient.builder()
+                .clientConnector(connector)
+                .filter(loadBalancerFunction)
+                // Sees the instance URL chosen by the load balancer
+                .filter((request, next) -> instanceStats.observe(request.url(), next.exchange(request)))
+                .build();
+    }
+
+    @PostConstruct
+    void init() {
+        hedgedPaths = properties.getPaths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        URI url = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+        if (route == null || url == null || ServerWebExchangeUtils.isAlreadyRouted(exchange)
+                || exchange.getRequest().getMethod() != HttpMethod.GET
+                || "websocket".equalsIgnoreCase(exchange.getRequest().getHeaders().getUpgrade())) {
+            return chain.filter(exchange);
+        }
+        PathPattern hedgedPath = matchHedgedPath(exchange);
+        if (hedgedPath == null) {
+            return chain.filter(exchange);
+        }
+        ServerWebExchangeUtils.setAlreadyRouted(exchange);
+
+        boolean loadBalanced = "lb".equals(url.getScheme());
+        WebClient client = loadBalanced ? loadBalancedWebClient : webClient;
+        URI target = loadBalanced ? UriComponentsBuilder.fromUri(url).scheme("http").build(true).toUri() : url;
+
+        HttpHeaders headers = HttpHeadersFilter.filterRequest(headersFilters.getIfAvailable(List::of), exchange);
+        headers.remove(HttpHeaders.HOST);
+
+        Mono<ResponseEntity<Flux<DataBuffer>>> attempt = client.get()
+                .uri(target)
+                .headers(h -> h.addAll(headers))
+                .retrieve()
+                // Every status is forwarded to the caller as-is
+                .onStatus(status -> true, response -> Mono.empty())
+                .toEntityFlux(DataBuffer.class);
+
+        LatencyWindow window = latencies.computeIfAbsent(hedgedPath.getPatternString(),
+                path -> new LatencyWindow(properties.getWindowSize()));
+        long startedAt = System.nanoTime();
+        // Cached, so that losing the race does not cancel the first attempt: it still answers,
+        // and its latency is recorded in full
+        Mono<ResponseEntity<Flux<DataBuffer>>> first = attempt
+                .doOnNext(entity -> window.record((System.nanoTime() - startedAt) / 1_000_000))
+                .cache();
+        AtomicBoolean firstForwarded = new AtomicBoolean();
+
+        return Mono.firstWithValue(first.doOnNext(entity -> firstForwarded.set(true)),
+                        attempt.delaySubscription(hedgeDelay(window)))
+                .timeout(responseTimeout(route))
+                .doFinally(signal -> {
+                    if (!firstForwarded.get()) {
+                        discard(first);
+                    }
+                })
+                .onErrorMap(TimeoutException.class,
+                        e -> new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, e.getMessage(), e))
+                .onErrorMap(e -> !(e instanceof ResponseStatusException),
+                        e -> new ResponseStatusException(HttpStatus.BAD_GATEWAY, e.getMessage(), e))
+                .flatMap(entity -> {
+                    ServerHttpResponse response = exchange.getResponse();
+                    response.setStatusCode(entity.getStatusCode());
+                    response.getHeaders().putAll(HttpHeadersFilter.filter(headersFilters.getIfAvailable(List::of),
+                            entity.getHeaders(), exchange, HttpHeadersFilter.Type.RESPONSE));
+                    return response.writeWith(entity.getBody());
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private static void discard(Mono<ResponseEntity<Flux<DataBuffer>>> response) {
+        // Reading the body to the end releases its buffers and the connection
+        response.flatMapMany(entity -> entity.getBody() != null ? entity.getBody() : Flux.empty())
+                .subscribe(DataBufferUtils::release, error -> {
+                });
+    }
+
+    private PathPattern matchHedgedPath(ServerWebExchange exchange) {
+        for (PathPattern pattern : hedgedPaths) {
+            if (pattern.matches(exchange.getRequest().getPath().pathWithinApplication())) {
+                return pattern;
+            }
+        }
+        return null;
+    }
+
+    private Duration hedgeDelay(LatencyWindow window) {
+        long p95 = window.percentile(0.95, properties.getMinSamples());
+        Duration delay = p95 < 0 ? properties.getInitialDelay() : Duration.ofMillis(p95);
+        return delay.compareTo(properties.getMinDelay()) < 0 ? properties.getMinDelay() : delay;
+    }
+
+    private Duration responseTimeout(Route route) {
+        Object timeout = route.getMetadata().get(RouteMetadataUtils.RESPONSE_TIMEOUT_ATTR);
+        if (timeout != null) {
+            return Duration.ofMillis(Long.parseLong(String.valueOf(timeout)));
+        }
+        Duration configured = httpClientProperties.getResponseTimeout();
+        return configured != null ? configured : Duration.ofSeconds(30);
+    }
+
+    /**
+     * The most recent first-attempt latencies of one hedged path, in milliseconds.
+     */
+    private static final class LatencyWindow {
+
+        private final long[] samples;
+        private int next;
+        private int count;
+
+        LatencyWindow(int size) {
+            this.samples = new long[size];
+        }
+
+        synchronized void record(long millis) {
+            samples[next] = millis;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+        }
+
+        /**
+         * Returns the given percentile, or -1 while fewer than {@code minSamples} have been recorded.
+         */
+        synchronized long percentile(double percentile, int minSamples) {
+            if (count < minSamples) {
+                return -1;
+            }
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            return sorted[(int) Math.ceil(percentile * count) - 1];
+        }
+    }
+}
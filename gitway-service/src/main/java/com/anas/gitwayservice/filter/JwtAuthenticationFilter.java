@@ -0,0 +1,121 @@
+package com.anas.gitwayservice.filter;
+
+import com.anas.gitwayservice.security.InternalIdentitySigner;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Verifies bearer tokens once, at the edge. A token that fails verification is rejected with
+ * 401; a verified one is remembered by hash until it expires, so repeat requests skip the RSA
+ * check. Verified requests carry a signed {@link InternalIdentitySigner#HEADER} to the backend.
+ * Requests without a token pass through unchanged and are left to the backend to accept or
+ * refuse.
+ */
+@Component
+public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
+
+    /**
+     * Exchange attribute holding the verified subject.
+     */
+    public static final String SUBJECT_ATTR = JwtAuthenticationFilter.class.getName() + ".subject";
+
+    private final ReactiveJwtDecoder jwtDecoder;
+    private final InternalIdentitySigner identitySigner;
+
+    @Value("${application.jwt.cache-size:10000}")
+    private int cacheSize;
+
+    private Map<String, VerifiedToken> verifiedTokens;
+
+    public JwtAuthenticationFilter(ReactiveJwtDecoder jwtDecoder, InternalIdentitySigner identitySigner) {
+        this.jwtDecoder = jwtDecoder;
+        this.identitySigner = identitySigner;
+    }
+
+    @PostConstruct
+    void init() {
+        verifiedTokens = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        // Only the gateway may assert an identity
+        ServerHttpRequest request = exchange.getRequest().mutate()
+                .headers(headers -> headers.remove(InternalIdentitySigner.HEADER))
+                .build();
+
+        String token = BearerToken.extract(request);
+        if (token == null) {
+            return chain.filter(exchange.mutate().request(request).build());
+        }
+
+        String tokenHash = BearerToken.hash(token);
+        return verify(token, tokenHash)
+                .map(Optional::of)
+                .onErrorResume(JwtException.class, e -> Mono.just(Optional.empty()))
+                .flatMap(verified -> {
+                    if (verified.isEmpty()) {
+                        return unauthorized(exchange.getResponse());
+                    }
+                    exchange.getAttributes().put(SUBJECT_ATTR, verified.get().subject());
+                    ServerHttpRequest forwarded = verified.get().identity() == null ? request : request.mutate()
+                            .header(InternalIdentitySigner.HEADER, verified.get().identity())
+                            .build();
+                    return chain.filter(exchange.mutate().request(forwarded).build());
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        // Before rate limiting and caching, which rely on the verified subject
+        return Ordered.HIGHEST_PRECEDENCE + 50;
+    }
+
+    private Mono<VerifiedToken> verify(String token, String tokenHash) {
+        VerifiedToken cached = verifiedTokens.get(tokenHash);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return Mono.just(cached);
+        }
+        return jwtDecoder.decode(token).map(jwt -> {
+            Instant expiresAt = jwt.getExpiresAt() != null ? jwt.getExpiresAt() : Instant.now();
+            String identity = identitySigner.isEnabled()
+                    ? identitySigner.sign(jwt.getSubject(), tokenHash, expiresAt.getEpochSecond())
+                    : null;
+            VerifiedToken verified = new VerifiedToken(jwt.getSubject(), expiresAt, identity);
+            verifiedTokens.put(tokenHash, verified);
+            return verified;
+        });
+    }
+
+    private Mono<Void> unauthorized(ServerHttpResponse response) {
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        response.getHeaders().set(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"");
+        return response.setComplete();
+    }
+
+    private record VerifiedToken(String subject, Instant expiresAt, String identity) {
+    }
+}
@@ -0,0 +1,103 @@
+package com.anas.gitwayservice.filter;
+
+import com.anas.gitwayservice.config.RateLimitProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sheds excess traffic before it is routed to a backend. Every route has its own token bucket
+ * per caller, kept in Redis and updated atomically by a Lua script, so all gateway instances
+ * enforce one shared quota. Callers are identified by their verified JWT subject, or by remote
+ * address when the request carries no token.
+ */
+@Component
+public class RateLimitFilter implements GlobalFilter, Ordered {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final RedisScript<List<Long>> TOKEN_BUCKET =
+            (RedisScript) RedisScript.of(new ClassPathResource("scripts/token-bucket.lua"), List.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final RateLimitProperties properties;
+
+    public RateLimitFilter(ReactiveStringRedisTemplate redisTemplate, RateLimitProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route == null) {
+            return chain.filter(exchange);
+        }
+
+        RateLimitProperties.Quota quota = properties.quotaFor(route.getId());
+        List<String> keys = List.of("gateway-rate-limit:" + route.getId() + ":" + getClientId(exchange));
+
+        return redisTemplate.execute(TOKEN_BUCKET, keys,
+                        List.of(String.valueOf(quota.getCapacity()),
+                                String.valueOf(quota.getRefillPeriod().toMillis()),
+                                "1"))
+                .reduce(new ArrayList<Long>(), (result, values) -> {
+                    result.addAll(values);
+                    return result;
+                })
+                .map(result -> result.size() == 3 ? result : List.<Long>of())
+                .onErrorResume(e -> {
+                    // Do not turn a Redis outage into a gateway outage
+                    log.warn("Rate limit store unavailable, letting request through: {}", e.getMessage());
+                    return Mono.just(List.of());
+                })
+                .flatMap(result -> {
+                    if (result.isEmpty()) {
+                        return chain.filter(exchange);
+                    }
+                    ServerHttpResponse response = exchange.getResponse();
+                    response.getHeaders().add("X-Rate-Limit-Remaining", String.valueOf(result.get(1)));
+                    if (result.get(0) == 1L) {
+                        return chain.filter(exchange);
+                    }
+                    response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+                    response.getHeaders().add("X-Rate-Limit-Retry-After-Seconds",
+                            String.valueOf((result.get(2) + 999) / 1000));
+                    return response.setComplete();
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        // Before the load balancer picks an instance
+        return Ordered.HIGHEST_PRECEDENCE + 100;
+    }
+
+    private String getClientId(ServerWebExchange exchange) {
+        String subject = exchange.getAttribute(JwtAuthenticationFilter.SUBJECT_ATTR);
+        if (subject != null) {
+            return "user:" + subject;
+        }
+        ServerHttpRequest request = exchange.getRequest();
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        return "ip:" + (remoteAddress != null ? remoteAddress.getAddress().getHostAddress() : "unknown");
+    }
+}
@@ -0,0 +1,322 @@
+package com.anas.gitwayservice.filter;
+
+import com.anas.gitwayservice.config.ResponseCacheProperties;
+import jakarta.annotation.PostConstruct;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Serves configured GET endpoints from a size-bounded in-memory cache.
+ * <p>
+ * A 200 response is stored when its Cache-Control allows a shared cache to keep it and it
+ * either has a max-age or an ETag. Fresh entries are answered at the gateway; stale entries
+ * with an ETag are revalidated with a conditional request, and a 304 from the backend renews
+ * the entry without transferring the body again. Entries are keyed on path and query, plus
+ * the caller's subject for paths marked vary-by-user. Any other request method evicts every
+ * entry under the same resource root, the first three path segments such as /api/v1/posts,
+ * since a write to one post or group changes the lists and trending pages built from it.
+ * <p>
+ * Only requests whose token {@link JwtAuthenticationFilter} has verified use the cache.
+ */
+@Component
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+
+    private static final Set<String> UNCACHED_HEADERS = Set.of(
+            HttpHeaders.TRANSFER_ENCODING.toLowerCase(Locale.ROOT),
+            HttpHeaders.CONNECTION.toLowerCase(Locale.ROOT),
+            HttpHeaders.SET_COOKIE.toLowerCase(Locale.ROOT),
+            HttpHeaders.DATE.toLowerCase(Locale.ROOT),
+            HttpHeaders.AGE.toLowerCase(Locale.ROOT));
+
+    private final ResponseCacheProperties properties;
+
+    private List<Map.Entry<PathPattern, Boolean>> cachedPaths;
+    private Map<String, CachedResponse> entries;
+
+    public ResponseCacheFilter(ResponseCacheProperties properties) {
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    void init() {
+        cachedPaths = properties.getPaths().stream()
+                .map(path -> Map.entry(PathPatternParser.defaultInstance.parse(path.getPattern()), path.isVaryByUser()))
+                .toList();
+        entries = boundedMap(properties.getMaxEntries());
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getPath().pathWithinApplication().value();
+
+        if (request.getMethod() != HttpMethod.GET) {
+            // A write may change what any cached read of the same resource returns
+            return chain.filter(exchange).doFinally(signal -> evictResourceRoot(path));
+        }
+
+        Boolean varyByUser = matchCachedPath(request);
+        String subject = exchange.getAttribute(JwtAuthenticationFilter.SUBJECT_ATTR);
+        if (varyByUser == null || subject == null || bypassesCache(request)) {
+            return chain.filter(exchange);
+        }
+
+        String key = path + "?" + (request.getURI().getRawQuery() != null ? request.getURI().getRawQuery() : "")
+                + (varyByUser ? "#" + subject : "");
+        long now = System.currentTimeMillis();
+        CachedResponse cached = entries.get(key);
+
+        // Copied before the request is mutated, which may share the same header map
+        List<String> ifNoneMatch = List.copyOf(request.getHeaders().getIfNoneMatch());
+        if (cached != null && cached.expiresAt() > now) {
+            return writeCached(exchange.getResponse(), ifNoneMatch, cached, "HIT");
+        }
+
+        ServerHttpRequest forwarded = request;
+        CachedResponse revalidating = cached != null && cached.etag() != null ? cached : null;
+        if (revalidating != null) {
+            forwarded = request.mutate()
+                    .headers(headers -> headers.setIfNoneMatch(revalidating.etag()))
+                    .build();
+        }
+
+        CachingResponse response = new CachingResponse(exchange.getResponse(), ifNoneMatch, key, varyByUser,
+                revalidating);
+        return chain.filter(exchange.mutate().request(forwarded).response(response).build());
+    }
+
+    @Override
+    public int getOrder() {
+        // After rate limiting, and before the response is written back from the backend
+        return Ordered.HIGHEST_PRECEDENCE + 200;
+    }
+
+    private Boolean matchCachedPath(ServerHttpRequest request) {
+        for (Map.Entry<PathPattern, Boolean> cachedPath : cachedPaths) {
+            if (cachedPath.getKey().matches(request.getPath().pathWithinApplication())) {
+                return cachedPath.getValue();
+            }
+        }
+        return null;
+    }
+
+    private boolean bypassesCache(ServerHttpRequest request) {
+        String cacheControl = request.getHeaders().getCacheControl();
+        return cacheControl != null && (cacheControl.contains("no-cache") || cacheControl.contains("no-store"));
+    }
+
+    private void evictResourceRoot(String path) {
+        String root = resourceRoot(path);
+        synchronized (entries) {
+            entries.keySet().removeIf(key -> key.startsWith(root + "?") || key.startsWith(root + "/"));
+        }
+    }
+
+    /**
+     * The first three segments of a path, e.g. /api/v1/posts for /api/v1/posts/5/like, or the
+     * whole path if it is shorter.
+     */
+    private static String resourceRoot(String path) {
+        int end = 0;
+        for (int segment = 0; segment < 3; segment++) {
+            end = path.indexOf('/', end + 1);
+            if (end < 0) {
+                return path;
+            }
+        }
+        return path.substring(0, end);
+    }
+
+    private Mono<Void> writeCached(ServerHttpResponse response, List<String> ifNoneMatch, CachedResponse cached,
+                                   String cacheStatus) {
+        HttpHeaders headers = response.getHeaders();
+        cached.headers().forEach(headers::put);
+        headers.remove(HttpHeaders.TRANSFER_ENCODING);
+        headers.set(HttpHeaders.AGE, String.valueOf((System.currentTimeMillis() - cached.storedAt()) / 1000));
+        headers.set("X-Cache", cacheStatus);
+
+        if (cached.etag() != null && matchesEtag(ifNoneMatch, cached.etag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(HttpStatus.OK);
+        headers.setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    private static boolean matchesEtag(List<String> ifNoneMatch, String etag) {
+        String opaque = stripWeak(etag);
+        for (String candidate : ifNoneMatch) {
+            if (candidate.equals("*") || stripWeak(candidate).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    /**
+     * Milliseconds a response may be served without revalidation, or -1 if a shared cache
+     * must not store it at all.
+     */
+    private static long freshnessLifetime(HttpHeaders headers, boolean varyByUser) {
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl == null) {
+            return headers.getETag() != null ? 0 : -1;
+        }
+        long maxAge = -1;
+        long sharedMaxAge = -1;
+        for (String directive : cacheControl.toLowerCase(Locale.ROOT).split(",")) {
+            directive = directive.trim();
+            if (directive.equals("no-store") || (directive.equals("private") && !varyByUser)) {
+                return -1;
+            } else if (directive.equals("no-cache")) {
+                return headers.getETag() != null ? 0 : -1;
+            } else if (directive.startsWith("s-maxage=")) {
+                sharedMaxAge = parseSeconds(directive.substring(9));
+            } else if (directive.startsWith("max-age=")) {
+                maxAge = parseSeconds(directive.substring(8));
+            }
+        }
+        long lifetime = sharedMaxAge >= 0 ? sharedMaxAge : maxAge;
+        if (lifetime < 0) {
+            return headers.getETag() != null ? 0 : -1;
+        }
+        return lifetime * 1000;
+    }
+
+    private static long parseSeconds(String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static <V> Map<String, V> boundedMap(int maxSize) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    private record CachedResponse(HttpHeaders headers, byte[] body, String etag, long storedAt, long expiresAt) {
+
+        CachedResponse renew(HttpHeaders revalidation, long lifetime) {
+            long now = System.currentTimeMillis();
+            HttpHeaders renewed = new HttpHeaders();
+            renewed.putAll(headers);
+            if (revalidation.getCacheControl() != null) {
+                renewed.setCacheControl(revalidation.getCacheControl());
+            }
+            return new CachedResponse(renewed, body, etag, now, now + Math.max(lifetime, 0));
+        }
+    }
+
+    /**
+     * Copies a cacheable backend response into the cache while it streams to the client, and
+     * turns a 304 answer to a revalidation into the cached response.
+     */
+    private class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final List<String> ifNoneMatch;
+        private final String key;
+        private final boolean varyByUser;
+        private final CachedResponse revalidating;
+
+        CachingResponse(ServerHttpResponse delegate, List<String> ifNoneMatch, String key, boolean varyByUser,
+                        CachedResponse revalidating) {
+            super(delegate);
+            this.ifNoneMatch = ifNoneMatch;
+            this.key = key;
+            this.varyByUser = varyByUser;
+            this.revalidating = revalidating;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpStatusCode status = getStatusCode();
+
+            if (revalidating != null && status != null && status.value() == HttpStatus.NOT_MODIFIED.value()) {
+                CachedResponse renewed = revalidating.renew(getHeaders(), freshnessLifetime(getHeaders(), varyByUser));
+                entries.put(key, renewed);
+                return Flux.from(body).doOnNext(DataBufferUtils::release)
+                        .then(writeCached(getDelegate(), ifNoneMatch, renewed, "REVALIDATED"));
+            }
+
+            if (status == null || status.value() != HttpStatus.OK.value()) {
+                return super.writeWith(body);
+            }
+            long lifetime = freshnessLifetime(getHeaders(), varyByUser);
+            long maxEntrySize = properties.getMaxEntrySize().toBytes();
+            if (lifetime < 0 || getHeaders().getContentLength() > maxEntrySize) {
+                return super.writeWith(body);
+            }
+
+            HttpHeaders headers = new HttpHeaders();
+            getHeaders().forEach((name, values) -> {
+                String lower = name.toLowerCase(Locale.ROOT);
+                if (!UNCACHED_HEADERS.contains(lower) && !lower.startsWith("access-control-")) {
+                    headers.put(name, values);
+                }
+            });
+            String etag = getHeaders().getETag();
+            ByteArrayOutputStream copy = new ByteArrayOutputStream();
+            AtomicBoolean oversized = new AtomicBoolean();
+
+            Flux<? extends DataBuffer> tee = Flux.from(body)
+                    .doOnNext(buffer -> {
+                        int length = buffer.readableByteCount();
+                        if (oversized.get() || copy.size() + length > maxEntrySize) {
+                            oversized.set(true);
+                            copy.reset();
+                            return;
+                        }
+                        ByteBuffer bytes = ByteBuffer.allocate(length);
+                        buffer.toByteBuffer(buffer.readPosition(), bytes, 0, length);
+                        copy.write(bytes.array(), 0, length);
+                    })
+                    .doOnComplete(() -> {
+                        if (!oversized.get()) {
+                            long now = System.currentTimeMillis();
+                            entries.put(key, new CachedResponse(headers, copy.toByteArray(), etag, now, now + lifetime));
+                        }
+                    });
+            return super.writeWith(tee);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.anas.gitwayservice.loadbalancer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-flight request count and an exponentially weighted moving average of response latency
+ * for every backend instance the gateway talks to, keyed by {@code host:port}.
+ * <p>
+ * A sample above the average replaces it at once, while lower samples pull it down gradually.
+ * The average also decays with time: an instance that stops getting traffic because it was
+ * slow looks gradually cheaper again, until it is probed and measured anew.
+ */
+@Component
+public class InstanceStats {
+
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+    @Value("${application.load-balancer.decay:10s}")
+    private Duration decay;
+
+    // Failures are recorded at least this slow, so a node that fails fast does not attract traffic
+    @Value("${application.load-balancer.error-penalty:1s}")
+    private Duration errorPenalty;
+
+    /**
+     * Counts {@code call} as in flight against the instance at {@code uri} from subscription
+     * until it completes, fails or is cancelled, and records how long it took if it completed
+     * or failed. A cancelled call (a hedge that lost, a client that went away) says nothing
+     * about how long the instance would have taken, so it is not recorded.
+     */
+    public <T> Mono<T> observe(URI uri, Mono<T> call) {
+        return Mono.defer(() -> {
+            Stats instance = stats.computeIfAbsent(key(uri.getHost(), uri.getPort()), k -> new Stats());
+            instance.inFlight.incrementAndGet();
+            long startedAt = System.nanoTime();
+            return call.doFinally(signal -> {
+                instance.inFlight.decrementAndGet();
+                if (signal == SignalType.CANCEL) {
+                    return;
+                }
+                long elapsed = System.nanoTime() - startedAt;
+                if (signal == SignalType.ON_ERROR) {
+                    elapsed = Math.max(elapsed, errorPenalty.toNanos());
+                }
+                instance.record(elapsed, decay.toNanos());
+            });
+        });
+    }
+
+    /**
+     * Relative cost of sending one more request to the instance: its decayed latency average
+     * scaled by the requests already waiting on it.
+     */
+    public double cost(String host, int port) {
+        Stats instance = stats.get(key(host, port));
+        if (instance == null) {
+            return 1;
+        }
+        return (instance.latencyMillis(decay.toNanos()) + 1) * (instance.inFlight.get() + 1);
+    }
+
+    private static String key(String host, int port) {
+        return host + ":" + port;
+    }
+
+    private static final class Stats {
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private double ewmaNanos;
+        private long updatedAt = System.nanoTime();
+
+        synchronized void record(long latencyNanos, long decayNanos) {
+            long now = System.nanoTime();
+            if (latencyNanos > ewmaNanos) {
+                // React to a slowdown at once, recover gradually
+                ewmaNanos = latencyNanos;
+            } else {
+                double weight = Math.exp(-(double) (now - updatedAt) / decayNanos);
+                ewmaNanos = ewmaNanos * weight + latencyNanos * (1 - weight);
+            }
+            updatedAt = now;
+        }
+
+        synchronized double latencyMillis(long decayNanos) {
+            double weight = Math.exp(-(double) (System.nanoTime() - updatedAt) / decayNanos);
+            return ewmaNanos * weight / 1_000_000;
+        }
+    }
+}
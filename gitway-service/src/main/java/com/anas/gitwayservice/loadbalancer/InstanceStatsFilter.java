@@ -0,0 +1,42 @@
+package com.anas.gitwayservice.loadbalancer;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+/**
+ * Feeds {@link InstanceStats} with the requests the gateway routes to a load-balanced instance.
+ * The routing filter completes once the backend's response headers arrive, so the recorded
+ * latency is time to first byte.
+ */
+@Component
+public class InstanceStatsFilter implements GlobalFilter, Ordered {
+
+    private final InstanceStats instanceStats;
+
+    public InstanceStatsFilter(InstanceStats instanceStats) {
+        this.instanceStats = instanceStats;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        URI url = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+        if (url == null || exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR) == null) {
+            return chain.filter(exchange);
+        }
+        return instanceStats.observe(url, chain.filter(exchange));
+    }
+
+    @Override
+    public int getOrder() {
+        // Right after the load balancer has replaced the lb:// URL with the chosen instance
+        return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER + 1;
+    }
+}
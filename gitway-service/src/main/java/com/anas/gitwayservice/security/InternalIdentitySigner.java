@@ -0,0 +1,52 @@
+package com.anas.gitwayservice.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+
+/**
+ * Signs the {@value #HEADER} header the gateway attaches to requests whose bearer token it has
+ * verified. The header is {@code base64url(payload).base64url(HMAC-SHA256(payload))}, where the
+ * payload names the subject, the SHA-256 of the bearer token and the token's expiry. Backends
+ * holding the same secret can then trust the token without checking its RSA signature again.
+ * <p>
+ * Disabled while {@code application.internal-identity.secret} is empty.
+ */
+@Component
+public class InternalIdentitySigner {
+
+    public static final String HEADER = "X-Internal-Identity";
+
+    private final SecretKeySpec key;
+
+    public InternalIdentitySigner(@Value("${application.internal-identity.secret:}") String secret) {
+        this.key = secret.isBlank() ? null : new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+    }
+
+    public boolean isEnabled() {
+        return key != null;
+    }
+
+    public String sign(String subject, String tokenHash, long expiresAtEpochSecond) {
+        String payload = "{\"sub\":\"" + escape(subject) + "\",\"th\":\"" + tokenHash + "\",\"exp\":" + expiresAtEpochSecond + "}";
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String encodedPayload = encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(key);
+            byte[] signature = mac.doFinal(encodedPayload.getBytes(StandardCharsets.US_ASCII));
+            return encodedPayload + "." + encoder.encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,95 @@
+package com.anas.gitwayservice.security;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jwt.SignedJWT;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The identity provider's signing keys, refreshed in the background so token verification
+ * never waits on the JWKS endpoint. A token signed with an unknown key id triggers an early
+ * refresh, at most once per {@code min-refresh-interval}, to pick up rotated keys.
+ */
+@Component
+public class JwksCache {
+
+    private static final Logger log = LoggerFactory.getLogger(JwksCache.class);
+
+    private final WebClient webClient = WebClient.create();
+    private final AtomicReference<JWKSet> keys = new AtomicReference<>(new JWKSet());
+    private final AtomicLong lastRefresh = new AtomicLong();
+    private Disposable refresher;
+
+    @Value("${application.jwt.jwk-set-uri}")
+    private String jwkSetUri;
+
+    @Value("${application.jwt.jwks-refresh-interval:5m}")
+    private Duration refreshInterval;
+
+    @Value("${application.jwt.jwks-min-refresh-interval:30s}")
+    private Duration minRefreshInterval;
+
+    @PostConstruct
+    void start() {
+        refresher = Flux.interval(Duration.ZERO, refreshInterval)
+                .concatMap(tick -> refresh())
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stop() {
+        refresher.dispose();
+    }
+
+    public Flux<JWK> select(SignedJWT jwt) {
+        JWKSelector selector = new JWKSelector(JWKMatcher.forJWSHeader(jwt.getHeader()));
+        List<JWK> matched = selector.select(keys.get());
+        if (!matched.isEmpty()) {
+            return Flux.fromIterable(matched);
+        }
+
+        long last = lastRefresh.get();
+        if (System.currentTimeMillis() - last < minRefreshInterval.toMillis()) {
+            return Flux.empty();
+        }
+        return refresh().thenMany(Flux.defer(() -> Flux.fromIterable(selector.select(keys.get()))));
+    }
+
+    private Mono<Void> refresh() {
+        lastRefresh.set(System.currentTimeMillis());
+        return webClient.get()
+                .uri(jwkSetUri)
+                .retrieve()
+                .bodyToMono(String.class)
+                .handle((body, sink) -> {
+                    try {
+                        sink.next(JWKSet.parse(body));
+                    } catch (ParseException e) {
+                        sink.error(e);
+                    }
+                })
+                .cast(JWKSet.class)
+                .doOnNext(keys::set)
+                // Keep the previous keys until the endpoint answers again
+                .doOnError(e -> log.warn("Could not refresh JWKS from {}: {}", jwkSetUri, e.getMessage()))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+}
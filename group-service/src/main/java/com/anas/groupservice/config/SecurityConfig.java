@@ -1,5 +1,8 @@
 package com.anas.groupservice.config;
 
+import com.anas.common.security.InternalIdentityJwtDecoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.convert.converter.Converter;
@@ -11,6 +14,9 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -45,7 +51,9 @@ public class SecurityConfig {
                             "/swagger-ui/**",
                             "/webjars/**",
                             "/swagger-ui.html",
-                            "/ws/**")
+                            "/ws/**",
+                            "/actuator/health/**",
+                            "/actuator/prometheus")
                     .permitAll()
                 .requestMatchers( "/api/groups").hasAuthority("TEACHER")
                 .requestMatchers( "/api/groups/**").hasAuthority("TEACHER")
@@ -58,6 +66,14 @@ public class SecurityConfig {
         return http.build();
     }
 
+    @Bean
+    public JwtDecoder jwtDecoder(OAuth2ResourceServerProperties properties,
+                                 @Value("${application.internal-identity.secret:}") String internalIdentitySecret) {
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withJwkSetUri(properties.getJwt().getJwkSetUri()).build();
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(properties.getJwt().getIssuerUri()));
+        return new InternalIdentityJwtDecoder(decoder, internalIdentitySecret);
+    }
+
 //    @Bean
 //    public CorsConfigurationSource corsConfigurationSource() {
 //        CorsConfiguration configuration = new CorsConfiguration();
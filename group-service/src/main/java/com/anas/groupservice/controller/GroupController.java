@@ -2,13 +2,18 @@ package com.anas.groupservice.controller;
 
 import com.anas.groupservice.dto.CreateGroupRequest;
 import com.anas.groupservice.dto.GroupDTO;
+import com.anas.groupservice.dto.GroupPageResponse;
+import com.anas.groupservice.dto.GroupTeardownStatus;
 import com.anas.groupservice.dto.SearchRequest;
 import com.anas.groupservice.service.GroupService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -17,6 +22,12 @@ import java.util.List;
 
 public class GroupController {
 
+    // Group listings are the same for every caller, so the gateway may share them
+    private static final CacheControl GROUP_LIST_CACHE = CacheControl.maxAge(Duration.ofSeconds(10)).cachePublic();
+
+    // Set on the unpaged search when more matches exist than it returns
+    static final String TRUNCATED_HEADER = "X-Result-Truncated";
+
     private final GroupService groupService;
 
     @PostMapping
@@ -28,7 +39,15 @@ public class GroupController {
     @GetMapping
     public ResponseEntity<List<GroupDTO>> getAllGroups() {
         List<GroupDTO> groups = groupService.getAllGroups();
-        return ResponseEntity.ok(groups);
+        return ResponseEntity.ok().cacheControl(GROUP_LIST_CACHE).body(groups);
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<GroupPageResponse> getGroupsPage(
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "20") int size) {
+        GroupPageResponse page = groupService.getGroupsPage(null, null, before, size);
+        return ResponseEntity.ok().cacheControl(GROUP_LIST_CACHE).body(page);
     }
 
     @GetMapping("/teacher/{teacherId}")
@@ -37,12 +56,32 @@ public class GroupController {
         return ResponseEntity.ok(groups);
     }
 
+    @GetMapping("/teacher/{teacherId}/page")
+    public ResponseEntity<GroupPageResponse> getGroupsPageByTeacherId(
+            @PathVariable String teacherId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "20") int size) {
+        SearchRequest filter = new SearchRequest(teacherId, null, null, null);
+        GroupPageResponse page = groupService.getGroupsPage(filter, null, before, size);
+        return ResponseEntity.ok(page);
+    }
+
     @GetMapping("/user/{userId}")
     public ResponseEntity<List<GroupDTO>> getGroupsByUserId(@PathVariable String userId) {
         List<GroupDTO> groups = groupService.getActiveGroupsByUserId(userId);
         return ResponseEntity.ok(groups);
     }
 
+    @GetMapping("/user/{userId}/page")
+    public ResponseEntity<GroupPageResponse> getGroupsPageByUserId(
+            @PathVariable String userId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "20") int size) {
+        SearchRequest filter = new SearchRequest(null, null, false, null);
+        GroupPageResponse page = groupService.getGroupsPage(filter, userId, before, size);
+        return ResponseEntity.ok(page);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<GroupDTO> getGroupById(@PathVariable Long id) {
         GroupDTO group = groupService.getGroupById(id);
@@ -57,20 +96,42 @@ public class GroupController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteGroup(@PathVariable Long id, Authentication authentication) {
-        groupService.deleteGroup(id);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<GroupTeardownStatus> deleteGroup(@PathVariable Long id, Authentication authentication) {
+        GroupTeardownStatus status = groupService.deleteGroup(id);
+        return status != null ? ResponseEntity.accepted().body(status) : ResponseEntity.notFound().build();
+    }
+
+    @GetMapping("/{id}/teardown")
+    public ResponseEntity<GroupTeardownStatus> getTeardownStatus(@PathVariable Long id) {
+        GroupTeardownStatus status = groupService.getTeardownStatus(id);
+        return status != null ? ResponseEntity.ok(status) : ResponseEntity.notFound().build();
     }
 
     @PostMapping("/search")
     public ResponseEntity<List<GroupDTO>> searchGroups(@RequestBody SearchRequest searchRequest) {
-        List<GroupDTO> groups = groupService.searchGroups(
+        GroupPageResponse page = groupService.searchGroups(
                 searchRequest.getTeacherId(),
                 searchRequest.getSubject(),
                 searchRequest.getArchived(),
                 searchRequest.getKeyword()
         );
-        return ResponseEntity.ok(groups);
+        if (!page.isHasNext()) {
+            return ResponseEntity.ok(page.getContent());
+        }
+        // The list is capped at one page; say so, and point to where the rest is
+        return ResponseEntity.ok()
+                .header(TRUNCATED_HEADER, "true")
+                .header(HttpHeaders.LINK, "</api/v1/groups/search/page?before=" + page.getNextCursor() + ">; rel=\"next\"")
+                .body(page.getContent());
+    }
+
+    @PostMapping("/search/page")
+    public ResponseEntity<GroupPageResponse> searchGroupsPage(
+            @RequestBody SearchRequest searchRequest,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "20") int size) {
+        GroupPageResponse page = groupService.getGroupsPage(searchRequest, null, before, size);
+        return ResponseEntity.ok(page);
     }
 
     @PutMapping("/{id}/archive")
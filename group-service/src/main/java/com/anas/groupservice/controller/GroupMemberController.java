@@ -1,13 +1,18 @@
 package com.anas.groupservice.controller;
 
 import com.anas.groupservice.dto.AddMemberRequest;
+import com.anas.groupservice.dto.BulkAddMembersRequest;
+import com.anas.groupservice.dto.BulkAddMembersResponse;
 import com.anas.groupservice.dto.GroupMemberDTO;
 import com.anas.groupservice.service.GroupMemberService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -25,6 +30,23 @@ public class GroupMemberController {
         return ResponseEntity.ok(member);
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkAddMembersResponse> addMembers(@PathVariable Long groupId,
+                                                             @RequestBody BulkAddMembersRequest request,
+                                                             Authentication authentication) {
+        BulkAddMembersResponse response = groupMemberService.addMembers(groupId, request.getUserIds(), authentication.getName());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    public ResponseEntity<BulkAddMembersResponse> addMembersFromCsv(@PathVariable Long groupId,
+                                                                    InputStream csv,
+                                                                    Authentication authentication) throws IOException {
+        List<String> userIds = groupMemberService.readUserIds(csv);
+        BulkAddMembersResponse response = groupMemberService.addMembers(groupId, userIds, authentication.getName());
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping
     public ResponseEntity<List<GroupMemberDTO>> getGroupMembers(@PathVariable Long groupId) {
         List<GroupMemberDTO> members = groupMemberService.getGroupMembers(groupId);
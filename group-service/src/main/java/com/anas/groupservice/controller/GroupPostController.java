@@ -2,11 +2,13 @@ package com.anas.groupservice.controller;
 
 import com.anas.groupservice.dto.FileDownloadDTO;
 import com.anas.groupservice.dto.GroupPostDTO;
+import com.anas.groupservice.dto.GroupPostPageResponse;
 import com.anas.groupservice.dto.UploadFileRequest;
 import com.anas.groupservice.service.GroupPostService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -14,6 +16,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -54,6 +57,16 @@ public class GroupPostController {
         return ResponseEntity.ok(posts);
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<GroupPostPageResponse> getPublishedPostsPage(
+            @PathVariable Long groupId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "20") int size) {
+        GroupPostPageResponse page = groupPostService.getPublishedPostsPage(groupId, before, beforeId, size);
+        return ResponseEntity.ok(page);
+    }
+
     @GetMapping("/user/{userId}")
     public ResponseEntity<List<GroupPostDTO>> getPublishedPostsByUser(
             @PathVariable Long groupId,
@@ -63,8 +76,10 @@ public class GroupPostController {
     }
 
     @GetMapping("/{postId}/download")
-    public ResponseEntity<Resource> downloadFile(@PathVariable Long groupId, @PathVariable Long postId) {
-        FileDownloadDTO fileDownload = groupPostService.downloadFile(postId);
+    public ResponseEntity<Resource> downloadFile(@PathVariable Long groupId,
+                                                 @PathVariable Long postId,
+                                                 @RequestParam(required = false) String size) {
+        FileDownloadDTO fileDownload = groupPostService.downloadFile(postId, size);
         
         ByteArrayResource resource = new ByteArrayResource(fileDownload.getData());
         
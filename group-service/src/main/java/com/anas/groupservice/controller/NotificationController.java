@@ -1,12 +1,15 @@
 package com.anas.groupservice.controller;
 
 import com.anas.groupservice.dto.NotificationDTO;
+import com.anas.groupservice.dto.NotificationPageResponse;
 import com.anas.groupservice.service.NotificationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -22,6 +25,17 @@ public class NotificationController {
         return ResponseEntity.ok(notifications);
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<NotificationPageResponse> getUserNotificationsPage(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "false") boolean unread,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        NotificationPageResponse page = notificationService.getUserNotificationsPage(authentication.getName(), before, beforeId, unread, size);
+        return ResponseEntity.ok(page);
+    }
+
     @GetMapping("/unread")
     public ResponseEntity<List<NotificationDTO>> getUnreadUserNotifications(Authentication authentication) {
         List<NotificationDTO> notifications = notificationService.getUnreadUserNotifications(authentication.getName());
@@ -0,0 +1,18 @@
+package com.anas.groupservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkAddMembersResponse {
+    private int requested;
+    private List<String> added;
+    private List<String> alreadyMembers;
+}
@@ -0,0 +1,11 @@
+package com.anas.groupservice.dto;
+
+/**
+ * Group totals computed by a single aggregate query.
+ */
+public interface GroupCountsView {
+
+    Long getTotal();
+
+    Long getArchived();
+}
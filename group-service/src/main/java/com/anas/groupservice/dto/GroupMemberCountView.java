@@ -0,0 +1,13 @@
+package com.anas.groupservice.dto;
+
+/**
+ * A group together with its number of active members.
+ */
+public interface GroupMemberCountView {
+
+    Long getGroupId();
+
+    String getName();
+
+    Long getMemberCount();
+}
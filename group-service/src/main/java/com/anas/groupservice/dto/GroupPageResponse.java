@@ -0,0 +1,19 @@
+package com.anas.groupservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class GroupPageResponse {
+    private List<GroupDTO> content;
+    // Pass back as "before" to fetch the next page
+    private Long nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,26 @@
+package com.anas.groupservice.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of an asynchronous group deletion, as recorded in group_teardowns.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class GroupTeardownStatus {
+
+    // PENDING, RUNNING, COMPLETED or FAILED
+    private String state;
+    private Long groupId;
+    private long membersDeleted;
+    private long postsDeleted;
+    private long filesDeleted;
+    private String error;
+    private LocalDateTime requestedAt;
+    private LocalDateTime finishedAt;
+}
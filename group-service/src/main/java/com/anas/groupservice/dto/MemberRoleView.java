@@ -0,0 +1,13 @@
+package com.anas.groupservice.dto;
+
+/**
+ * Role flags of one group member, as loaded into the membership index.
+ */
+public interface MemberRoleView {
+
+    String getUserId();
+
+    boolean getAdmin();
+
+    boolean getCoAdmin();
+}
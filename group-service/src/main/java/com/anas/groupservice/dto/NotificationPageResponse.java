@@ -0,0 +1,21 @@
+package com.anas.groupservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificationPageResponse {
+    private List<NotificationDTO> content;
+    // Pass back as "before" and "beforeId" to fetch the next (older) page
+    private LocalDateTime nextCursor;
+    private Long nextCursorId;
+    private boolean hasNext;
+}
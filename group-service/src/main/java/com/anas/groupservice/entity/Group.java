@@ -19,7 +19,8 @@ import java.util.List;
 public class Group extends BaseAuditingEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SequenceGenerator(name = "group_id_seq", sequenceName = "group_id_seq", allocationSize = 50)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "group_id_seq")
     private Long id;
 
     @Column(nullable = false)
@@ -17,7 +17,8 @@ import lombok.Setter;
 public class GroupMember extends BaseAuditingEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SequenceGenerator(name = "group_member_id_seq", sequenceName = "group_member_id_seq", allocationSize = 50)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "group_member_id_seq")
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -16,7 +16,8 @@ import lombok.Setter;
 public class GroupPost extends BaseAuditingEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SequenceGenerator(name = "group_post_id_seq", sequenceName = "group_post_id_seq", allocationSize = 50)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "group_post_id_seq")
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
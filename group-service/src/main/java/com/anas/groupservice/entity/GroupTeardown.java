@@ -0,0 +1,57 @@
+package com.anas.groupservice.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Persisted progress of a group deletion. Keyed by the group id and kept after the group row
+ * is gone, so that any replica can report on it and an interrupted teardown can be resumed.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "group_teardowns")
+public class GroupTeardown {
+
+    @Id
+    @Column(name = "group_id")
+    private Long groupId;
+
+    @Column(name = "group_name")
+    private String groupName;
+
+    // PENDING, RUNNING, COMPLETED or FAILED
+    @Column(name = "state", nullable = false)
+    private String state;
+
+    @Column(name = "members_deleted")
+    private long membersDeleted;
+
+    @Column(name = "posts_deleted")
+    private long postsDeleted;
+
+    @Column(name = "files_deleted")
+    private long filesDeleted;
+
+    @Column(name = "error", columnDefinition = "TEXT")
+    private String error;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+
+    // Token of the worker running the teardown; only that worker may record progress
+    @Column(name = "claimed_by", length = 36)
+    private String claimedBy;
+
+    // Refreshed after every batch; a RUNNING teardown whose heartbeat stops is taken over
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
@@ -16,7 +16,8 @@ import lombok.Setter;
 public class Notification extends BaseAuditingEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SequenceGenerator(name = "notification_id_seq", sequenceName = "notification_id_seq", allocationSize = 50)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_id_seq")
     private Long id;
 
     @Column(name = "type", nullable = false)
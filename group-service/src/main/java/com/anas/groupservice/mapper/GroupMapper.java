@@ -7,7 +7,7 @@ import org.springframework.stereotype.Component;
 @Component
 public class GroupMapper {
 
-    public GroupDTO toDTO(Group group) {
+    public GroupDTO toDTO(Group group, long memberCount) {
         if (group == null) {
             return null;
         }
@@ -18,7 +18,7 @@ public class GroupMapper {
         dto.setDescription(group.getDescription());
         dto.setSubject(group.getSubject());
         dto.setArchived(group.isArchived());
-        dto.setMemberCount((long) group.getMemberCount());
+        dto.setMemberCount(memberCount);
         dto.setCreatedBy(group.getCreatedBy());
         dto.setCreatedDate(group.getCreatedDate());
 
@@ -1,11 +1,15 @@
 package com.anas.groupservice.repository;
 
+import com.anas.groupservice.dto.MemberRoleView;
 import com.anas.groupservice.entity.GroupMember;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,9 +18,33 @@ public interface GroupMemberRepository extends JpaRepository<GroupMember, Long>
 
     List<GroupMember> findByGroupId(Long groupId);
 
+    long countByGroupId(Long groupId);
+
     @Query("SELECT gm FROM GroupMember gm WHERE gm.group.id = :groupId AND gm.userId = :userId")
     Optional<GroupMember> findByGroupIdAndUserId(@Param("groupId") Long groupId, @Param("userId") String userId);
 
+    @Query("SELECT gm.userId AS userId, gm.isAdmin AS admin, gm.isCoAdmin AS coAdmin FROM GroupMember gm WHERE gm.group.id = :groupId")
+    List<MemberRoleView> findMemberRolesByGroupId(@Param("groupId") Long groupId);
+
+    /**
+     * Enrolls the given users as plain members in one statement. Users who already belong to
+     * the group are skipped by the (group_id, user_id) unique key.
+     *
+     * @return the ids of the users that were actually inserted
+     */
+    @Query(value = "INSERT INTO group_members (id, group_id, user_id, is_admin, is_co_admin, status, " +
+            "created_by, created_date, last_modified_by, last_modified_date) " +
+            "SELECT nextval('group_member_id_seq'), :groupId, u.user_id, false, false, 'ACTIVE', " +
+            ":createdBy, :createdDate, :createdBy, :createdDate " +
+            "FROM unnest(CAST(:userIds AS text[])) AS u(user_id) " +
+            "ON CONFLICT (group_id, user_id) DO NOTHING " +
+            "RETURNING user_id",
+            nativeQuery = true)
+    List<String> insertMembersIfAbsent(@Param("groupId") Long groupId,
+                                       @Param("userIds") String[] userIds,
+                                       @Param("createdBy") String createdBy,
+                                       @Param("createdDate") LocalDateTime createdDate);
+
     @Query("SELECT gm FROM GroupMember gm WHERE gm.group.id = :groupId AND gm.isAdmin = false ")
     List<GroupMember> findStudentsByGroupId(@Param("groupId") Long groupId);
 
@@ -33,4 +61,14 @@ public interface GroupMemberRepository extends JpaRepository<GroupMember, Long>
 
     @Query("SELECT COUNT(gm) FROM GroupMember gm WHERE gm.group.id = :groupId AND gm.status = 'ACTIVE'")
     Long countActiveMembersByGroupId(@Param("groupId") Long groupId);
-}
\ No newline at end of file
+
+    @Query("SELECT COUNT(gm) FROM GroupMember gm WHERE gm.group.createdBy = :teacherId AND gm.status = 'ACTIVE'")
+    long countActiveMembersByTeacherId(@Param("teacherId") String teacherId);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM group_members WHERE id IN (" +
+            "SELECT id FROM group_members WHERE group_id = :groupId LIMIT :batchSize)",
+            nativeQuery = true)
+    int deleteBatchByGroupId(@Param("groupId") Long groupId, @Param("batchSize") int batchSize);
+}
@@ -1,22 +1,70 @@
 package com.anas.groupservice.repository;
 
+import com.anas.groupservice.dto.GroupPostDTO;
 import com.anas.groupservice.entity.GroupPost;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface GroupPostRepository extends JpaRepository<GroupPost, Long> {
 
-    @Query("SELECT gp FROM GroupPost gp WHERE gp.group.id = :groupId AND gp.state = 'PUBLISHED' ORDER BY gp.createdDate DESC")
-    List<GroupPost> findPublishedPostsByGroupId(@Param("groupId") Long groupId);
+    // gp.group.id reads the group_id column, so the group itself is never loaded
+    String GROUP_POST_DTO = "SELECT new com.anas.groupservice.dto.GroupPostDTO(gp.id, gp.group.id, gp.userId, gp.content, " +
+            "gp.type, gp.state, gp.filePath, gp.fileName, gp.createdBy, gp.createdDate) ";
 
-    @Query("SELECT gp FROM GroupPost gp WHERE gp.group.id = :groupId AND gp.userId = :userId AND gp.state = 'PUBLISHED' ORDER BY gp.createdDate DESC")
-    List<GroupPost> findPublishedPostsByGroupIdAndUserId(@Param("groupId") Long groupId, @Param("userId") String userId);
+    @Query(GROUP_POST_DTO + "FROM GroupPost gp WHERE gp.group.id = :groupId AND gp.state = 'PUBLISHED' ORDER BY gp.createdDate DESC")
+    List<GroupPostDTO> findPublishedPostsByGroupId(@Param("groupId") Long groupId);
+
+    @Query(GROUP_POST_DTO + "FROM GroupPost gp WHERE gp.group.id = :groupId AND gp.state = 'PUBLISHED' ORDER BY gp.createdDate DESC, gp.id DESC")
+    Slice<GroupPostDTO> findPublishedPageByGroupId(@Param("groupId") Long groupId, Pageable pageable);
+
+    // Keyset on (createdDate, id): posts sharing the cursor's timestamp are neither skipped nor repeated
+    @Query(GROUP_POST_DTO + "FROM GroupPost gp WHERE gp.group.id = :groupId AND gp.state = 'PUBLISHED' " +
+           "AND (gp.createdDate, gp.id) < (:before, :beforeId) ORDER BY gp.createdDate DESC, gp.id DESC")
+    Slice<GroupPostDTO> findPublishedPageByGroupIdBefore(@Param("groupId") Long groupId,
+                                                         @Param("before") LocalDateTime before,
+                                                         @Param("beforeId") Long beforeId,
+                                                         Pageable pageable);
+
+    @Query(GROUP_POST_DTO + "FROM GroupPost gp WHERE gp.group.id = :groupId AND gp.userId = :userId AND gp.state = 'PUBLISHED' ORDER BY gp.createdDate DESC")
+    List<GroupPostDTO> findPublishedPostsByGroupIdAndUserId(@Param("groupId") Long groupId, @Param("userId") String userId);
 
     @Query("SELECT COUNT(gp) FROM GroupPost gp WHERE gp.group.id = :groupId AND gp.state = 'PUBLISHED'")
     Long countPublishedPostsByGroupId(@Param("groupId") Long groupId);
-}
\ No newline at end of file
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM group_posts WHERE id IN (" +
+            "SELECT id FROM group_posts WHERE group_id = :groupId LIMIT :batchSize)",
+            nativeQuery = true)
+    int deleteBatchByGroupId(@Param("groupId") Long groupId, @Param("batchSize") int batchSize);
+
+    /**
+     * Moves up to {@code batchSize} posts deleted before {@code cutoff} into group_posts_archive.
+     *
+     * @return the file paths of the moved posts (null for text posts)
+     */
+    @Transactional
+    @Query(value = "WITH moved AS (" +
+            "DELETE FROM group_posts WHERE id IN (" +
+            "SELECT id FROM group_posts WHERE state = 'DELETED' AND last_modified_date < :cutoff LIMIT :batchSize) " +
+            "RETURNING *), " +
+            "archived AS (" +
+            "INSERT INTO group_posts_archive (id, group_id, user_id, content, type, state, file_path, file_name, " +
+            "created_by, created_date, last_modified_by, last_modified_date, archived_at) " +
+            "SELECT id, group_id, user_id, content, type, state, file_path, file_name, " +
+            "created_by, created_date, last_modified_by, last_modified_date, now() FROM moved " +
+            "RETURNING file_path) " +
+            "SELECT file_path FROM archived",
+            nativeQuery = true)
+    List<String> archiveDeletedPostsOlderThan(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
+}
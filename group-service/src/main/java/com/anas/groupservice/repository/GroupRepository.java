@@ -1,37 +1,79 @@
 package com.anas.groupservice.repository;
 
+import com.anas.groupservice.dto.GroupCountsView;
+import com.anas.groupservice.dto.GroupDTO;
+import com.anas.groupservice.dto.GroupMemberCountView;
 import com.anas.groupservice.entity.Group;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface GroupRepository extends JpaRepository<Group, Long> {
+public interface GroupRepository extends JpaRepository<Group, Long>, GroupSearchRepository {
 
-    @Query("SELECT g FROM Group g JOIN g.groupMembers gm WHERE gm.userId = :userId AND g.archived = false")
-    List<Group> findActiveGroupsByUserId(@Param("userId") String userId);
+    String GROUP_DTO = "SELECT new com.anas.groupservice.dto.GroupDTO(g.id, g.name, g.description, g.subject, g.archived, " +
+            "(SELECT COUNT(m) FROM GroupMember m WHERE m.group = g), g.createdBy, g.createdDate) ";
 
-    @Query("SELECT g FROM Group g JOIN g.groupMembers gm WHERE gm.userId = :userId AND g.archived = true")
-    List<Group> findArchivedGroupsByUserId(@Param("userId") String userId);
+    @Query(GROUP_DTO + "FROM Group g")
+    List<GroupDTO> findAllGroups();
 
-    @Query("SELECT g FROM Group g WHERE g.createdBy = :teacherId")
-    List<Group> findGroupsByTeacherId(@Param("teacherId") String teacherId);
+    @Query(GROUP_DTO + "FROM Group g WHERE g.id = :id")
+    Optional<GroupDTO> findGroupById(@Param("id") Long id);
+
+    @Query(GROUP_DTO + "FROM Group g JOIN g.groupMembers gm WHERE gm.userId = :userId AND g.archived = false")
+    List<GroupDTO> findActiveGroupsByUserId(@Param("userId") String userId);
+
+    @Query(GROUP_DTO + "FROM Group g JOIN g.groupMembers gm WHERE gm.userId = :userId AND g.archived = true")
+    List<GroupDTO> findArchivedGroupsByUserId(@Param("userId") String userId);
+
+    @Query(GROUP_DTO + "FROM Group g WHERE g.createdBy = :teacherId")
+    List<GroupDTO> findGroupsByTeacherId(@Param("teacherId") String teacherId);
 
     @Query("SELECT g FROM Group g WHERE g.subject = :subject AND g.archived = false")
     List<Group> findActiveGroupsBySubject(@Param("subject") String subject);
 
     List<Group> findByArchived(boolean archived);
 
-    @Query("SELECT g FROM Group g WHERE " +
-           "(:teacherId IS NULL OR g.createdBy = :teacherId) AND " +
-           "(:subject IS NULL OR g.subject = :subject) AND " +
-           "(:archived IS NULL OR g.archived = :archived) AND " +
-           "(:keyword IS NULL OR LOWER(g.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(g.description) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    List<Group> searchGroups(@Param("teacherId") String teacherId, 
-                            @Param("subject") String subject, 
-                            @Param("archived") Boolean archived, 
-                            @Param("keyword") String keyword);
-}
\ No newline at end of file
+    @Query("SELECT COUNT(g) AS total, COALESCE(SUM(CASE WHEN g.archived = true THEN 1 ELSE 0 END), 0) AS archived FROM Group g")
+    GroupCountsView countGroups();
+
+    @Query("SELECT COUNT(g) AS total, COALESCE(SUM(CASE WHEN g.archived = true THEN 1 ELSE 0 END), 0) AS archived " +
+           "FROM Group g WHERE g.createdBy = :teacherId")
+    GroupCountsView countGroupsByTeacherId(@Param("teacherId") String teacherId);
+
+    @Query("SELECT g.id AS groupId, g.name AS name, COUNT(gm) AS memberCount " +
+           "FROM Group g LEFT JOIN g.groupMembers gm ON gm.status = 'ACTIVE' " +
+           "GROUP BY g.id, g.name ORDER BY COUNT(gm) DESC, g.id")
+    List<GroupMemberCountView> findMostPopularGroups(Pageable pageable);
+
+    @Query("SELECT g.id AS groupId, g.name AS name, COUNT(gm) AS memberCount " +
+           "FROM Group g LEFT JOIN g.groupMembers gm ON gm.status = 'ACTIVE' " +
+           "WHERE g.createdBy = :teacherId " +
+           "GROUP BY g.id, g.name ORDER BY COUNT(gm) DESC, g.id")
+    List<GroupMemberCountView> findMostPopularGroupsByTeacherId(@Param("teacherId") String teacherId, Pageable pageable);
+
+    // FOR SHARE: member writes hold it until commit, so a teardown cannot start underneath them
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT g FROM Group g WHERE g.id = :id")
+    Optional<Group> findByIdForShare(@Param("id") Long id);
+
+    // FOR UPDATE: waits for in-flight member writes before a teardown is recorded
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT g FROM Group g WHERE g.id = :id")
+    Optional<Group> findByIdForUpdate(@Param("id") Long id);
+
+    // Bulk JPQL delete: bypasses the cascade on groupMembers / groupPosts, which must already be gone
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Group g WHERE g.id = :id")
+    int deleteGroupRow(@Param("id") Long id);
+}
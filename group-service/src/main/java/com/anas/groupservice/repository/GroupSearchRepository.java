@@ -0,0 +1,22 @@
+package com.anas.groupservice.repository;
+
+import com.anas.groupservice.dto.GroupDTO;
+import com.anas.groupservice.dto.SearchRequest;
+
+import java.util.List;
+
+/**
+ * Keyset-paginated group listing and search, built with the Criteria API so that only the
+ * filters actually supplied end up in the SQL.
+ */
+public interface GroupSearchRepository {
+
+    /**
+     * Returns up to {@code limit} groups with an id lower than {@code beforeId}, newest first.
+     *
+     * @param filter   optional teacher, subject, archived and keyword filters; any field may be null
+     * @param memberId when not null, only groups this user is a member of
+     * @param beforeId id of the last group of the previous page, or null for the first page
+     */
+    List<GroupDTO> findGroupPage(SearchRequest filter, String memberId, Long beforeId, int limit);
+}
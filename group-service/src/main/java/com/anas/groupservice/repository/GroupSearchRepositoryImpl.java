@@ -0,0 +1,84 @@
+package com.anas.groupservice.repository;
+
+import com.anas.groupservice.dto.GroupDTO;
+import com.anas.groupservice.dto.SearchRequest;
+import com.anas.groupservice.entity.Group;
+import com.anas.groupservice.entity.GroupMember;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class GroupSearchRepositoryImpl implements GroupSearchRepository {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<GroupDTO> findGroupPage(SearchRequest filter, String memberId, Long beforeId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<GroupDTO> query = cb.createQuery(GroupDTO.class);
+        Root<Group> group = query.from(Group.class);
+
+        Subquery<Long> memberCount = query.subquery(Long.class);
+        Root<GroupMember> member = memberCount.from(GroupMember.class);
+        memberCount.select(cb.count(member)).where(cb.equal(member.get("group"), group));
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (beforeId != null) {
+            predicates.add(cb.lessThan(group.get("id"), beforeId));
+        }
+        if (memberId != null) {
+            Join<Group, GroupMember> membership = group.join("groupMembers");
+            predicates.add(cb.equal(membership.get("userId"), memberId));
+        }
+        if (filter != null) {
+            if (filter.getTeacherId() != null) {
+                predicates.add(cb.equal(group.get("createdBy"), filter.getTeacherId()));
+            }
+            if (filter.getSubject() != null) {
+                predicates.add(cb.equal(group.get("subject"), filter.getSubject()));
+            }
+            if (filter.getArchived() != null) {
+                predicates.add(cb.equal(group.get("archived"), filter.getArchived()));
+            }
+            if (filter.getKeyword() != null && !filter.getKeyword().isBlank()) {
+                // Served by the trigram indexes on lower(name) and lower(description)
+                String pattern = "%" + escapeLike(filter.getKeyword().trim().toLowerCase(Locale.ROOT)) + "%";
+                predicates.add(cb.or(
+                        cb.like(cb.lower(group.get("name")), pattern, LIKE_ESCAPE),
+                        cb.like(cb.lower(group.get("description")), pattern, LIKE_ESCAPE)));
+            }
+        }
+
+        query.select(cb.construct(GroupDTO.class,
+                        group.get("id"),
+                        group.get("name"),
+                        group.get("description"),
+                        group.get("subject"),
+                        group.get("archived"),
+                        memberCount,
+                        group.get("createdBy"),
+                        group.get("createdDate")))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.desc(group.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
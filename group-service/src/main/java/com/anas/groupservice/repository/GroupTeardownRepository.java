@@ -0,0 +1,71 @@
+package com.anas.groupservice.repository;
+
+import com.anas.groupservice.entity.GroupTeardown;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface GroupTeardownRepository extends JpaRepository<GroupTeardown, Long> {
+
+    @Query("SELECT COUNT(t) > 0 FROM GroupTeardown t WHERE t.groupId = :groupId AND t.state IN ('PENDING', 'RUNNING')")
+    boolean isUnfinished(@Param("groupId") Long groupId);
+
+    /**
+     * Hands a pending teardown to the caller. Only one worker, on any replica, gets 1 back.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE GroupTeardown t SET t.state = 'RUNNING', t.claimedBy = :worker, t.heartbeatAt = :now " +
+            "WHERE t.groupId = :groupId AND t.state = 'PENDING'")
+    int claim(@Param("groupId") Long groupId, @Param("worker") String worker, @Param("now") LocalDateTime now);
+
+    /**
+     * Records progress for the worker holding the claim. 0 means the teardown was requeued and
+     * possibly claimed by another worker, and the caller must stop.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE GroupTeardown t SET t.membersDeleted = :membersDeleted, t.postsDeleted = :postsDeleted, " +
+            "t.heartbeatAt = :now " +
+            "WHERE t.groupId = :groupId AND t.state = 'RUNNING' AND t.claimedBy = :worker")
+    int heartbeat(@Param("groupId") Long groupId, @Param("worker") String worker,
+                  @Param("membersDeleted") long membersDeleted, @Param("postsDeleted") long postsDeleted,
+                  @Param("now") LocalDateTime now);
+
+    /**
+     * Records the outcome for the worker holding the claim; 0 means the claim was lost.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE GroupTeardown t SET t.state = :state, t.membersDeleted = :membersDeleted, " +
+            "t.postsDeleted = :postsDeleted, t.filesDeleted = :filesDeleted, t.error = :error, " +
+            "t.heartbeatAt = :now, t.finishedAt = :now " +
+            "WHERE t.groupId = :groupId AND t.state = 'RUNNING' AND t.claimedBy = :worker")
+    int finish(@Param("groupId") Long groupId, @Param("worker") String worker, @Param("state") String state,
+               @Param("membersDeleted") long membersDeleted, @Param("postsDeleted") long postsDeleted,
+               @Param("filesDeleted") long filesDeleted, @Param("error") String error,
+               @Param("now") LocalDateTime now);
+
+    /**
+     * Puts back teardowns whose worker stopped reporting progress, e.g. because its instance died.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE GroupTeardown t SET t.state = 'PENDING' WHERE t.state = 'RUNNING' AND t.heartbeatAt < :staleBefore")
+    int requeueStale(@Param("staleBefore") LocalDateTime staleBefore);
+
+    @Query("SELECT t.groupId FROM GroupTeardown t WHERE t.state = 'PENDING'")
+    List<Long> findPendingGroupIds();
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM GroupTeardown t WHERE t.finishedAt < :cutoff")
+    int deleteFinishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
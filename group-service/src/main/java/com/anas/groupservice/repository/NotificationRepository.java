@@ -1,21 +1,43 @@
 package com.anas.groupservice.repository;
 
+import com.anas.common.notification.ReadNotificationStore;
 import com.anas.groupservice.entity.Notification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
+public interface NotificationRepository extends JpaRepository<Notification, Long>, ReadNotificationStore {
 
     List<Notification> findByUserIdOrderByCreatedDateDesc(String userId);
 
     List<Notification> findByUserIdAndIsReadOrderByCreatedDateDesc(String userId, boolean isRead);
 
+    Slice<Notification> findByUserIdOrderByCreatedDateDescIdDesc(String userId, Pageable pageable);
+
+    Slice<Notification> findByUserIdAndIsReadOrderByCreatedDateDescIdDesc(String userId, boolean isRead, Pageable pageable);
+
+    // Keyset on (createdDate, id): rows sharing the cursor's timestamp are neither skipped nor repeated
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId " +
+            "AND (n.createdDate, n.id) < (:before, :beforeId) " +
+            "ORDER BY n.createdDate DESC, n.id DESC")
+    Slice<Notification> findPageByUserIdBefore(@Param("userId") String userId, @Param("before") LocalDateTime before,
+                                                @Param("beforeId") Long beforeId, Pageable pageable);
+
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId AND n.isRead = false " +
+            "AND (n.createdDate, n.id) < (:before, :beforeId) " +
+            "ORDER BY n.createdDate DESC, n.id DESC")
+    Slice<Notification> findUnreadPageByUserIdBefore(@Param("userId") String userId, @Param("before") LocalDateTime before,
+                                                      @Param("beforeId") Long beforeId, Pageable pageable);
+
     List<Notification> findByGroupIdOrderByCreatedDateDesc(Long groupId);
 
     List<Notification> findByUserIdAndGroupIdOrderByCreatedDateDesc(String userId, Long groupId);
@@ -26,4 +48,31 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("UPDATE Notification n SET n.isRead = true WHERE n.userId = :userId AND n.isRead = false")
     @Modifying
     void markAllAsReadByUserId(@Param("userId") String userId);
-}
\ No newline at end of file
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM notifications WHERE id IN (" +
+            "SELECT id FROM notifications WHERE is_read = true AND created_date < :cutoff LIMIT :batchSize)",
+            nativeQuery = true)
+    @Override
+    int deleteReadNotificationsOlderThan(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
+
+    @Modifying
+    @Query(value = "INSERT INTO notifications (id, type, group_id, group_name, message, user_id, user_name, is_read, " +
+            "related_entity_id, related_entity_type, created_by, created_date, last_modified_by, last_modified_date) " +
+            "SELECT nextval('notification_id_seq'), :type, gm.group_id, :groupName, :message, gm.user_id, :userName, false, " +
+            ":relatedEntityId, :relatedEntityType, :createdBy, :createdDate, :createdBy, :createdDate " +
+            "FROM group_members gm " +
+            "WHERE gm.group_id = :groupId AND gm.status = 'ACTIVE' AND gm.user_id <> :excludedUserId",
+            nativeQuery = true)
+    int insertForActiveGroupMembers(@Param("groupId") Long groupId,
+                                    @Param("type") String type,
+                                    @Param("groupName") String groupName,
+                                    @Param("message") String message,
+                                    @Param("userName") String userName,
+                                    @Param("relatedEntityId") Long relatedEntityId,
+                                    @Param("relatedEntityType") String relatedEntityType,
+                                    @Param("excludedUserId") String excludedUserId,
+                                    @Param("createdBy") String createdBy,
+                                    @Param("createdDate") LocalDateTime createdDate);
+}
@@ -1,5 +1,8 @@
 package com.anas.groupservice.service;
 
+import com.anas.common.file.ImageVariantService;
+import com.anas.groupservice.util.FileUtils;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.Nonnull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,6 +15,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.stream.Stream;
 
 import static java.io.File.separator;
 import static java.lang.System.currentTimeMillis;
@@ -24,6 +29,9 @@ public class FileService {
     @Value("${application.file.uploads.group-output-path:./group-uploads}")
     private String fileUploadPath;
 
+    private final ImageVariantService imageVariantService;
+    private final MeterRegistry meterRegistry;
+
     public String saveFile(
             @Nonnull MultipartFile sourceFile,
             @Nonnull Long groupId,
@@ -33,6 +41,62 @@ public class FileService {
         return uploadFile(sourceFile, fileUploadSubPath);
     }
 
+    /**
+     * Reads a stored file, counting the bytes as file.io.bytes reads.
+     *
+     * @return the file's content, or an empty array if it cannot be read
+     */
+    public byte[] readFile(String filePath) {
+        byte[] content = FileUtils.readFileFromLocation(filePath);
+        meterRegistry.counter("file.io.bytes", "operation", "read").increment(content.length);
+        return content;
+    }
+
+    /**
+     * Removes {@code groups/{groupId}} and everything below it.
+     *
+     * @return the number of regular files deleted
+     */
+    public long deleteGroupFiles(@Nonnull Long groupId) throws IOException {
+        Path groupFolder = Paths.get(fileUploadPath, "groups", groupId.toString());
+        if (!Files.exists(groupFolder)) {
+            return 0;
+        }
+
+        long deletedFiles = 0;
+        try (Stream<Path> paths = Files.walk(groupFolder)) {
+            // Children before their parent directory
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                if (Files.isRegularFile(path)) {
+                    deletedFiles++;
+                }
+                Files.deleteIfExists(path);
+            }
+        }
+        log.info("Deleted " + deletedFiles + " files under " + groupFolder);
+        return deletedFiles;
+    }
+
+    /**
+     * Deletes an uploaded file and its image variants. The path comes from the database, so
+     * anything that does not resolve to a file under the upload directory is refused.
+     */
+    public boolean deleteFile(String filePath) {
+        try {
+            Path uploadRoot = Paths.get(fileUploadPath).toAbsolutePath().normalize();
+            Path path = Paths.get(filePath).toAbsolutePath().normalize();
+            if (!path.startsWith(uploadRoot) || path.equals(uploadRoot)) {
+                log.warn("Refusing to delete a file outside the upload directory: " + filePath);
+                return false;
+            }
+            imageVariantService.deleteVariants(path);
+            return Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.error("File was not deleted: " + filePath, e);
+            return false;
+        }
+    }
+
     private String uploadFile(
             @Nonnull MultipartFile sourceFile,
             @Nonnull String fileUploadSubPath
@@ -51,8 +115,11 @@ public class FileService {
         String targetFilePath = finalUploadPath + separator + currentTimeMillis() + "." + fileExtension;
         Path targetPath = Paths.get(targetFilePath);
         try {
-            Files.write(targetPath, sourceFile.getBytes());
+            byte[] content = sourceFile.getBytes();
+            Files.write(targetPath, content);
+            meterRegistry.counter("file.io.bytes", "operation", "write").increment(content.length);
             log.info("File saved to: " + targetFilePath);
+            imageVariantService.generateVariantsAsync(targetFilePath);
             return targetFilePath;
         } catch (IOException e) {
             log.error("File was not saved", e);
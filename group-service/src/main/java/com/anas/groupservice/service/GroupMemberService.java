@@ -1,6 +1,7 @@
 package com.anas.groupservice.service;
 
 import com.anas.groupservice.dto.AddMemberRequest;
+import com.anas.groupservice.dto.BulkAddMembersResponse;
 import com.anas.groupservice.dto.GroupMemberDTO;
 import com.anas.groupservice.dto.NotificationDTO;
 import com.anas.groupservice.entity.Group;
@@ -9,11 +10,22 @@ import com.anas.groupservice.repository.GroupMemberRepository;
 import com.anas.groupservice.repository.GroupRepository;
 import com.anas.groupservice.mapper.GroupMemberMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,7 +36,15 @@ public class GroupMemberService {
     private final GroupRepository groupRepository;
     private final GroupMemberMapper groupMemberMapper;
     private final NotificationService notificationService;
+    private final GroupMembershipIndex membershipIndex;
+    private final StatisticsService statisticsService;
+    private final GroupNotificationFanoutService groupNotificationFanoutService;
+    private final GroupTeardownService groupTeardownService;
 
+    @Value("${application.groups.bulk-enrollment.max-size:1000}")
+    private int maxBulkSize;
+
+    @Transactional
     public GroupMemberDTO addMember(Long groupId, AddMemberRequest request, String requesterId) {
         // Check if requester is admin or co-admin
         if (!isUserAdminOrCoAdmin(groupId, requesterId)) {
@@ -32,14 +52,11 @@ public class GroupMemberService {
         }
 
         // Check if user is already a member
-        Optional<GroupMember> existingMember = groupMemberRepository
-                .findByGroupIdAndUserId(groupId, request.getUserId());
-        if (existingMember.isPresent()) {
+        if (isUserMember(groupId, request.getUserId())) {
             throw new IllegalArgumentException("User is already a member of this group");
         }
 
-        Group group = groupRepository.findById(groupId)
-                .orElseThrow(() -> new IllegalArgumentException("Group not found"));
+        Group group = lockGroupForEnrollment(groupId);
 
         GroupMember groupMember = new GroupMember();
         groupMember.setGroup(group);
@@ -49,25 +66,95 @@ public class GroupMemberService {
         groupMember.setStatus("ACTIVE");
 
         GroupMember savedMember = groupMemberRepository.save(groupMember);
-        
+        membershipIndex.put(savedMember);
+        statisticsService.invalidate();
+
         // Send notification
-        Group groupEntity = groupRepository.findById(groupId).orElse(null);
-        if (groupEntity != null) {
-            NotificationDTO notification = new NotificationDTO();
-            notification.setType("MEMBER_ADDED");
-            notification.setGroupId(groupId.toString());
-            notification.setGroupName(groupEntity.getName());
-            notification.setMessage("User has been added to group '" + groupEntity.getName() + "'");
-            notification.setUserId(request.getUserId());
-            notification.setTimestamp(LocalDateTime.now().toString());
-            notification.setRead(false);
-            
-            notificationService.createAndSendUserNotification(request.getUserId(), notification);
-        }
+        NotificationDTO notification = new NotificationDTO();
+        notification.setType("MEMBER_ADDED");
+        notification.setGroupId(groupId.toString());
+        notification.setGroupName(group.getName());
+        notification.setMessage("User has been added to group '" + group.getName() + "'");
+        notification.setUserId(request.getUserId());
+        notification.setTimestamp(LocalDateTime.now().toString());
+        notification.setRead(false);
+
+        notificationService.createAndSendUserNotification(request.getUserId(), notification);
         
         return groupMemberMapper.toDTO(savedMember);
     }
 
+    /**
+     * Enrolls a batch of users as plain members. One INSERT ... ON CONFLICT DO NOTHING writes
+     * the new rows and reports which users it added, so a concurrent enrollment of the same
+     * user cannot fail the batch; the notifications go out asynchronously as one wave once
+     * the rows are committed.
+     */
+    @Transactional
+    public BulkAddMembersResponse addMembers(Long groupId, Collection<String> userIds, String requesterId) {
+        if (!isUserAdminOrCoAdmin(groupId, requesterId)) {
+            throw new SecurityException("Only admin or co-admin can add members");
+        }
+
+        Set<String> requested = new LinkedHashSet<>();
+        if (userIds != null) {
+            for (String userId : userIds) {
+                if (userId != null && !userId.isBlank()) {
+                    requested.add(userId.trim());
+                }
+            }
+        }
+        if (requested.size() > maxBulkSize) {
+            throw new IllegalArgumentException("At most " + maxBulkSize + " users can be added at once");
+        }
+
+        Group group = lockGroupForEnrollment(groupId);
+        if (requested.isEmpty()) {
+            return new BulkAddMembersResponse(0, List.of(), List.of());
+        }
+
+        // Rows that already exist are skipped by the unique key; only the inserted user ids come back
+        Set<String> inserted = new HashSet<>(groupMemberRepository.insertMembersIfAbsent(
+                groupId, requested.toArray(String[]::new), requesterId, LocalDateTime.now()));
+        List<String> added = requested.stream().filter(inserted::contains).toList();
+        added.forEach(userId -> membershipIndex.put(groupId, userId, GroupMembershipIndex.Role.MEMBER));
+        statisticsService.invalidate();
+
+        NotificationDTO notification = new NotificationDTO();
+        notification.setType("MEMBER_ADDED");
+        notification.setGroupId(groupId.toString());
+        notification.setGroupName(group.getName());
+        notification.setMessage("User has been added to group '" + group.getName() + "'");
+        notification.setTimestamp(LocalDateTime.now().toString());
+        notification.setRead(false);
+        groupNotificationFanoutService.fanOutToUsers(added, notification);
+
+        List<String> alreadyMembers = requested.stream().filter(userId -> !inserted.contains(userId)).toList();
+        return new BulkAddMembersResponse(requested.size(), added, alreadyMembers);
+    }
+
+    /**
+     * Reads user ids from a CSV body: one or more ids per line, separated by commas.
+     * Blank cells and a "userId" header are skipped.
+     */
+    public List<String> readUserIds(InputStream csv) throws IOException {
+        List<String> userIds = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            for (String cell : line.split(",")) {
+                String userId = cell.trim();
+                if (!userId.isEmpty() && !userId.equalsIgnoreCase("userId") && !userId.equalsIgnoreCase("user_id")) {
+                    userIds.add(userId);
+                }
+            }
+            if (userIds.size() > maxBulkSize) {
+                throw new IllegalArgumentException("At most " + maxBulkSize + " users can be added at once");
+            }
+        }
+        return userIds;
+    }
+
     public List<GroupMemberDTO> getGroupMembers(Long groupId) {
         return groupMemberRepository.findByGroupId(groupId).stream()
                 .map(groupMemberMapper::toDTO)
@@ -80,6 +167,19 @@ public class GroupMemberService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Holds a shared lock on the group row for the rest of the enrollment transaction, so a
+     * deletion cannot be registered until it commits, and refuses groups already being deleted.
+     */
+    private Group lockGroupForEnrollment(Long groupId) {
+        Group group = groupRepository.findByIdForShare(groupId)
+                .orElseThrow(() -> new IllegalArgumentException("Group not found"));
+        if (groupTeardownService.isBeingDeleted(groupId)) {
+            throw new IllegalStateException("Group is being deleted");
+        }
+        return group;
+    }
+
     public void removeMember(Long groupId, String userId, String requesterId) {
         if (!isUserAdminOrCoAdmin(groupId, requesterId)) {
             throw new SecurityException("Only admin or co-admin can remove members");
@@ -95,6 +195,8 @@ public class GroupMemberService {
                 .ifPresent(groupMember -> {
                     // Supprimer le membre de la base
                     groupMemberRepository.delete(groupMember);
+                    membershipIndex.remove(groupId, userId);
+                    statisticsService.invalidate();
 
                     // Envoyer la notification
                     Group group = groupRepository.findById(groupId).orElse(null);
@@ -118,7 +220,9 @@ public class GroupMemberService {
                 .ifPresent(groupMember -> {
                     groupMember.setStatus("LEFT");
                     GroupMember savedMember = groupMemberRepository.save(groupMember);
-                    
+                    membershipIndex.put(savedMember);
+                    statisticsService.invalidate();
+
                     // Send notification
                     Group group = groupRepository.findById(groupId).orElse(null);
                     if (group != null) {
@@ -148,6 +252,7 @@ public class GroupMemberService {
 
         groupMember.setCoAdmin(true);
         GroupMember updatedMember = groupMemberRepository.save(groupMember);
+        membershipIndex.put(updatedMember);
         
         // Send notification
         Group group = groupRepository.findById(groupId).orElse(null);
@@ -168,16 +273,15 @@ public class GroupMemberService {
     }
 
     public boolean isUserAdminOrCoAdmin(Long groupId, String userId) {
-        Optional<GroupMember> groupMember = groupMemberRepository.findByGroupIdAndUserId(groupId, userId);
-        return groupMember.isPresent() && (groupMember.get().isAdmin() || groupMember.get().isCoAdmin());
+        GroupMembershipIndex.Role role = membershipIndex.getRole(groupId, userId);
+        return role == GroupMembershipIndex.Role.ADMIN || role == GroupMembershipIndex.Role.CO_ADMIN;
     }
 
     public boolean isUserAdmin(Long groupId, String userId) {
-        Optional<GroupMember> groupMember = groupMemberRepository.findByGroupIdAndUserId(groupId, userId);
-        return groupMember.isPresent() && groupMember.get().isAdmin();
+        return membershipIndex.getRole(groupId, userId) == GroupMembershipIndex.Role.ADMIN;
     }
 
     public boolean isUserMember(Long groupId, String userId) {
-        return groupMemberRepository.findByGroupIdAndUserId(groupId, userId).isPresent();
+        return membershipIndex.getRole(groupId, userId) != null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,154 @@
+package com.anas.groupservice.service;
+
+import com.anas.groupservice.dto.MemberRoleView;
+import com.anas.groupservice.entity.GroupMember;
+import com.anas.groupservice.repository.GroupMemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory index of {@code groupId -> userId -> role} used by the authorization checks.
+ * <p>
+ * A group's members are loaded with one projection query the first time the group is
+ * looked up, then kept in sync by the member and group services on every write. A write
+ * made inside a transaction is applied once that transaction commits, so a rolled-back
+ * change never grants or revokes access. Those writes only reach the replica that served
+ * them, so a loaded group also expires after {@code ttl} and other replicas pick up the
+ * change on their next reload. The number of indexed groups is bounded; the least recently
+ * used group is dropped first and simply reloaded on its next lookup.
+ */
+@Component
+@RequiredArgsConstructor
+public class GroupMembershipIndex {
+
+    public enum Role { MEMBER, CO_ADMIN, ADMIN }
+
+    private static final String CACHE_NAME = "group-membership";
+
+    private final GroupMemberRepository groupMemberRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${application.groups.membership-index.max-groups:10000}")
+    private int maxGroups;
+
+    @Value("${application.groups.membership-index.ttl:30s}")
+    private Duration ttl;
+
+    private Map<Long, Members> groups;
+    private Counter hits;
+    private Counter misses;
+
+    // Bumped on every write so that a load racing with a write does not cache a stale snapshot
+    private final AtomicLong generation = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        groups = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Members> eldest) {
+                return size() > maxGroups;
+            }
+        });
+        hits = meterRegistry.counter("cache.gets", "cache", CACHE_NAME, "result", "hit");
+        misses = meterRegistry.counter("cache.gets", "cache", CACHE_NAME, "result", "miss");
+        Gauge.builder("cache.size", groups, Map::size).tag("cache", CACHE_NAME).register(meterRegistry);
+    }
+
+    public Role getRole(Long groupId, String userId) {
+        if (groupId == null || userId == null) {
+            return null;
+        }
+        return membersOf(groupId).get(userId);
+    }
+
+    public void put(GroupMember member) {
+        put(member.getGroup().getId(), member.getUserId(), roleOf(member.isAdmin(), member.isCoAdmin()));
+    }
+
+    public void put(Long groupId, String userId, Role role) {
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            Members members = groups.get(groupId);
+            if (members != null) {
+                members.roles().put(userId, role);
+            }
+        });
+    }
+
+    public void remove(Long groupId, String userId) {
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            Members members = groups.get(groupId);
+            if (members != null) {
+                members.roles().remove(userId);
+            }
+        });
+    }
+
+    public void evictGroup(Long groupId) {
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            groups.remove(groupId);
+        });
+    }
+
+    // The generation moves on commit too, so a load that read the table before the commit is not kept
+    private void afterCommit(Runnable write) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                write.run();
+            }
+        });
+    }
+
+    private Map<String, Role> membersOf(Long groupId) {
+        Members members = groups.get(groupId);
+        if (members != null && System.nanoTime() - members.loadedAt() < ttl.toNanos()) {
+            hits.increment();
+            return members.roles();
+        }
+        misses.increment();
+
+        long loadedAt = generation.get();
+        Map<String, Role> loaded = new ConcurrentHashMap<>();
+        for (MemberRoleView view : groupMemberRepository.findMemberRolesByGroupId(groupId)) {
+            loaded.put(view.getUserId(), roleOf(view.getAdmin(), view.getCoAdmin()));
+        }
+
+        synchronized (groups) {
+            if (generation.get() == loadedAt) {
+                groups.put(groupId, new Members(loaded, System.nanoTime()));
+            }
+        }
+        return loaded;
+    }
+
+    private static Role roleOf(boolean admin, boolean coAdmin) {
+        if (admin) {
+            return Role.ADMIN;
+        }
+        return coAdmin ? Role.CO_ADMIN : Role.MEMBER;
+    }
+
+    private record Members(Map<String, Role> roles, long loadedAt) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.anas.groupservice.service;
+
+import com.anas.groupservice.dto.NotificationDTO;
+import com.anas.groupservice.entity.GroupMember;
+import com.anas.groupservice.entity.Notification;
+import com.anas.groupservice.mapper.NotificationMapper;
+import com.anas.groupservice.repository.GroupMemberRepository;
+import com.anas.groupservice.repository.NotificationRepository;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Delivers a group notification to every active member: one INSERT ... SELECT writes the
+ * per-member inbox rows, and the WebSocket push runs on the notification executor once
+ * the rows are committed. Notifications for an explicit list of users (bulk enrollment)
+ * are written with one batched insert and pushed on the same executor.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GroupNotificationFanoutService {
+
+    private final NotificationRepository notificationRepository;
+    private final GroupMemberRepository groupMemberRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NotificationMapper notificationMapper;
+
+    public record GroupFanoutEvent(Long groupId, String actorId, NotificationDTO notification) {
+    }
+
+    public record UserFanoutEvent(List<String> userIds, NotificationDTO notification) {
+    }
+
+    @Transactional
+    public int fanOut(Long groupId, NotificationDTO notificationDTO) {
+        String actorId = notificationDTO.getUserId();
+        int inserted = notificationRepository.insertForActiveGroupMembers(
+                groupId,
+                notificationDTO.getType(),
+                notificationDTO.getGroupName(),
+                notificationDTO.getMessage(),
+                notificationDTO.getUserName(),
+                notificationDTO.getRelatedEntityId(),
+                notificationDTO.getRelatedEntityType(),
+                actorId != null ? actorId : "",
+                actorId,
+                LocalDateTime.now()
+        );
+        log.info("Stored {} notifications for members of group {}", inserted, groupId);
+
+        eventPublisher.publishEvent(new GroupFanoutEvent(groupId, actorId, notificationDTO));
+        return inserted;
+    }
+
+    @Async("notificationExecutor")
+    @Observed(name = "group.notifications.push")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void pushToMembers(GroupFanoutEvent event) {
+        messagingTemplate.convertAndSend("/topic/group/" + event.groupId(), event.notification());
+
+        List<GroupMember> members = groupMemberRepository.findActiveMembersByGroupId(event.groupId());
+        for (GroupMember member : members) {
+            if (member.getUserId().equals(event.actorId())) {
+                continue;
+            }
+            messagingTemplate.convertAndSendToUser(member.getUserId(), "/queue/notifications", event.notification());
+        }
+        log.debug("Pushed notification to {} members of group {}", members.size(), event.groupId());
+    }
+
+    public void fanOutToUsers(List<String> userIds, NotificationDTO notificationDTO) {
+        if (!userIds.isEmpty()) {
+            eventPublisher.publishEvent(new UserFanoutEvent(List.copyOf(userIds), notificationDTO));
+        }
+    }
+
+    @Async("notificationExecutor")
+    @Observed(name = "group.notifications.deliver")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void deliverToUsers(UserFanoutEvent event) {
+        List<Notification> notifications = new ArrayList<>(event.userIds().size());
+        for (String userId : event.userIds()) {
+            Notification notification = notificationMapper.toEntity(event.notification());
+            notification.setUserId(userId);
+            notification.setRead(false);
+            notifications.add(notification);
+        }
+        notificationRepository.saveAll(notifications);
+
+        for (String userId : event.userIds()) {
+            messagingTemplate.convertAndSendToUser(userId, "/queue/notifications", event.notification());
+        }
+        log.info("Delivered {} notification to {} users", event.notification().getType(), event.userIds().size());
+    }
+}
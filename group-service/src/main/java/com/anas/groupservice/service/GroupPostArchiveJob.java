@@ -0,0 +1,50 @@
+package com.anas.groupservice.service;
+
+import com.anas.groupservice.repository.GroupPostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves posts that were soft-deleted more than the grace period ago into
+ * group_posts_archive, in small batches, and deletes their files once each batch is
+ * committed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupPostArchiveJob {
+
+    private final GroupPostRepository groupPostRepository;
+    private final FileService fileService;
+
+    @Value("${application.groups.post-archive.grace-days:30}")
+    private int graceDays;
+
+    @Value("${application.groups.post-archive.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(cron = "${application.groups.post-archive.cron:0 30 3 * * *}")
+    public void archiveDeletedPosts() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(graceDays);
+        int archived = 0;
+        int filesDeleted = 0;
+        List<String> filePaths;
+        do {
+            filePaths = groupPostRepository.archiveDeletedPostsOlderThan(cutoff, batchSize);
+            archived += filePaths.size();
+            for (String filePath : filePaths) {
+                if (filePath != null && !filePath.isEmpty() && fileService.deleteFile(filePath)) {
+                    filesDeleted++;
+                }
+            }
+        } while (filePaths.size() == batchSize);
+
+        log.info("Group post archive: moved {} posts deleted before {}, freed {} files", archived, cutoff, filesDeleted);
+    }
+}
@@ -0,0 +1,90 @@
+package com.anas.groupservice.service;
+
+import com.anas.groupservice.dto.GroupPostDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Per-group cache of the most recent published posts, i.e. the first page of the group feed.
+ * <p>
+ * Entries are dropped by {@link #evict(Long)} whenever a post of the group is created,
+ * uploaded or deleted on this replica, and expire after {@code ttl} so that posts written
+ * through another replica show up too. The number of cached groups is bounded and the
+ * least recently read group goes first.
+ */
+@Component
+@RequiredArgsConstructor
+public class GroupPostFeedCache {
+
+    private static final String CACHE_NAME = "group-feed";
+
+    public record RecentPosts(List<GroupPostDTO> posts, boolean hasMore) {
+    }
+
+    private record Entry(RecentPosts page, long loadedAt) {
+    }
+
+    @Value("${application.groups.feed.cache-size:1000}")
+    private int maxGroups;
+
+    @Value("${application.groups.feed.ttl:10s}")
+    private Duration ttl;
+
+    private final MeterRegistry meterRegistry;
+
+    private Map<Long, Entry> recentPosts;
+    private Counter hits;
+    private Counter misses;
+
+    // Bumped on every eviction so that a load racing with a write does not cache a stale page
+    private final AtomicLong generation = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        recentPosts = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxGroups;
+            }
+        });
+        hits = meterRegistry.counter("cache.gets", "cache", CACHE_NAME, "result", "hit");
+        misses = meterRegistry.counter("cache.gets", "cache", CACHE_NAME, "result", "miss");
+        Gauge.builder("cache.size", recentPosts, Map::size).tag("cache", CACHE_NAME).register(meterRegistry);
+    }
+
+    public RecentPosts get(Long groupId, Supplier<RecentPosts> loader) {
+        Entry cached = recentPosts.get(groupId);
+        if (cached != null && System.nanoTime() - cached.loadedAt() < ttl.toNanos()) {
+            hits.increment();
+            return cached.page();
+        }
+        misses.increment();
+
+        long loadedAt = generation.get();
+        RecentPosts loaded = loader.get();
+        synchronized (recentPosts) {
+            if (generation.get() == loadedAt) {
+                recentPosts.put(groupId, new Entry(loaded, System.nanoTime()));
+            }
+        }
+        return loaded;
+    }
+
+    public void evict(Long groupId) {
+        generation.incrementAndGet();
+        recentPosts.remove(groupId);
+    }
+}
@@ -1,7 +1,9 @@
 package com.anas.groupservice.service;
 
+import com.anas.common.file.ImageVariantService;
 import com.anas.groupservice.dto.FileDownloadDTO;
 import com.anas.groupservice.dto.GroupPostDTO;
+import com.anas.groupservice.dto.GroupPostPageResponse;
 import com.anas.groupservice.dto.NotificationDTO;
 import com.anas.groupservice.dto.UploadFileRequest;
 import com.anas.groupservice.entity.Group;
@@ -13,12 +15,16 @@ import com.anas.groupservice.repository.GroupPostRepository;
 import com.anas.groupservice.repository.GroupRepository;
 import com.anas.groupservice.util.FileUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -29,6 +35,11 @@ public class GroupPostService {
     private final GroupPostMapper groupPostMapper;
     private final FileService fileService;
     private final NotificationService notificationService;
+    private final GroupPostFeedCache feedCache;
+    private final ImageVariantService imageVariantService;
+
+    @Value("${application.groups.max-page-size:50}")
+    private int maxPageSize;
 
     public GroupPostDTO createPost(GroupPostDTO postDTO) {
         Group group = groupRepository.findById(postDTO.getGroupId())
@@ -39,7 +50,8 @@ public class GroupPostService {
         groupPost.setState(GroupPostState.PUBLISHED);
 
         GroupPost savedPost = groupPostRepository.save(groupPost);
-        
+        feedCache.evict(group.getId());
+
         // Send notification about new post
         NotificationDTO notification = new NotificationDTO();
         notification.setType("NEW_POST");
@@ -80,7 +92,8 @@ public class GroupPostService {
         groupPost.setFileName(file.getOriginalFilename());
 
         GroupPost savedPost = groupPostRepository.save(groupPost);
-        
+        feedCache.evict(groupId);
+
         // Send notification about new file post
         NotificationDTO notification = new NotificationDTO();
         notification.setType("NEW_FILE");
@@ -97,33 +110,58 @@ public class GroupPostService {
     }
 
     public List<GroupPostDTO> getPublishedPostsByGroupId(Long groupId) {
-        return groupPostRepository.findPublishedPostsByGroupId(groupId)
-                .stream()
-                .map(groupPostMapper::toDTO)
-                .collect(Collectors.toList());
+        return groupPostRepository.findPublishedPostsByGroupId(groupId);
+    }
+
+    public GroupPostPageResponse getPublishedPostsPage(Long groupId, LocalDateTime before, Long beforeId, int size) {
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        List<GroupPostDTO> posts;
+        boolean hasNext;
+        if (before == null) {
+            // First page: served from the recent-posts cache, which always holds a full page
+            GroupPostFeedCache.RecentPosts recent = feedCache.get(groupId, () -> {
+                Slice<GroupPostDTO> slice = groupPostRepository.findPublishedPageByGroupId(groupId, PageRequest.of(0, maxPageSize));
+                return new GroupPostFeedCache.RecentPosts(slice.getContent(), slice.hasNext());
+            });
+            posts = recent.posts().subList(0, Math.min(pageSize, recent.posts().size()));
+            hasNext = recent.posts().size() > pageSize || recent.hasMore();
+        } else {
+            // Without an id the cursor only admits strictly older posts, as before
+            long tieBreak = beforeId != null ? beforeId : 0L;
+            Slice<GroupPostDTO> slice = groupPostRepository.findPublishedPageByGroupIdBefore(groupId, before, tieBreak, PageRequest.of(0, pageSize));
+            posts = slice.getContent();
+            hasNext = slice.hasNext();
+        }
+
+        GroupPostDTO last = posts.isEmpty() ? null : posts.get(posts.size() - 1);
+        return new GroupPostPageResponse(posts,
+                last != null ? last.getCreatedDate() : null,
+                last != null ? last.getId() : null,
+                hasNext);
     }
 
     public List<GroupPostDTO> getPublishedPostsByGroupIdAndUserId(Long groupId, String userId) {
-        return groupPostRepository.findPublishedPostsByGroupIdAndUserId(groupId, userId)
-                .stream()
-                .map(groupPostMapper::toDTO)
-                .collect(Collectors.toList());
+        return groupPostRepository.findPublishedPostsByGroupIdAndUserId(groupId, userId);
     }
 
-    public FileDownloadDTO downloadFile(Long postId) {
+    public FileDownloadDTO downloadFile(Long postId, String size) {
         GroupPost post = groupPostRepository.findById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("Post not found"));
         
         if (post.getFilePath() == null || post.getFilePath().isEmpty()) {
             throw new IllegalArgumentException("No file associated with this post");
         }
-        
-        byte[] fileData = FileUtils.readFileFromLocation(post.getFilePath());
-        String contentType = FileUtils.getContentType(post.getFileName());
+
+        Path original = Paths.get(post.getFilePath());
+        Path file = imageVariantService.resolve(original, ImageVariantService.Size.from(size));
+        boolean variant = !file.equals(original);
+
+        byte[] fileData = fileService.readFile(file.toString());
+        String contentType = variant ? "image/jpeg" : FileUtils.getContentType(post.getFileName());
         
         FileDownloadDTO downloadDTO = new FileDownloadDTO();
         downloadDTO.setData(fileData);
-        downloadDTO.setFileName(post.getFileName());
+        downloadDTO.setFileName(variant ? file.getFileName().toString() : post.getFileName());
         downloadDTO.setContentType(contentType);
         
         return downloadDTO;
@@ -133,10 +171,12 @@ public class GroupPostService {
         groupPostRepository.findById(postId).ifPresent(post -> {
             post.setState(GroupPostState.DELETED);
             groupPostRepository.save(post);
-            
+
             // Send notification about deleted post
             Group group = post.getGroup();
             if (group != null) {
+                feedCache.evict(group.getId());
+
                 NotificationDTO notification = new NotificationDTO();
                 notification.setType("POST_DELETED");
                 notification.setGroupId(group.getId().toString());
@@ -2,17 +2,20 @@ package com.anas.groupservice.service;
 
 import com.anas.groupservice.dto.CreateGroupRequest;
 import com.anas.groupservice.dto.GroupDTO;
+import com.anas.groupservice.dto.GroupPageResponse;
+import com.anas.groupservice.dto.GroupTeardownStatus;
 import com.anas.groupservice.dto.NotificationDTO;
+import com.anas.groupservice.dto.SearchRequest;
 import com.anas.groupservice.entity.Group;
 import com.anas.groupservice.entity.GroupMember;
 import com.anas.groupservice.repository.GroupRepository;
 import com.anas.groupservice.repository.GroupMemberRepository;
 import com.anas.groupservice.mapper.GroupMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -22,6 +25,12 @@ public class GroupService {
     private final GroupMemberRepository groupMemberRepository;
     private final GroupMapper groupMapper;
     private final NotificationService notificationService;
+    private final GroupMembershipIndex membershipIndex;
+    private final StatisticsService statisticsService;
+    private final GroupTeardownService groupTeardownService;
+
+    @Value("${application.groups.max-page-size:50}")
+    private int maxPageSize;
 
     public GroupDTO createGroup(CreateGroupRequest request, String creatorId) {
         Group group = new Group();
@@ -33,7 +42,8 @@ public class GroupService {
         Group savedGroup = groupRepository.save(group);
 
         // Add creator as admin
-        groupMemberRepository.save(createGroupAdmin(savedGroup, creatorId));
+        membershipIndex.put(groupMemberRepository.save(createGroupAdmin(savedGroup, creatorId)));
+        statisticsService.invalidate();
 
         // Send notification
         NotificationDTO notification = new NotificationDTO();
@@ -46,43 +56,49 @@ public class GroupService {
         
         notificationService.sendNotificationToAll(notification);
 
-        return groupMapper.toDTO(savedGroup);
+        // The creator is the only member so far
+        return groupMapper.toDTO(savedGroup, 1);
     }
 
     public List<GroupDTO> getAllGroups() {
-        return groupRepository.findAll().stream()
-                .map(groupMapper::toDTO)
-                .collect(Collectors.toList());
+        return groupRepository.findAllGroups();
     }
 
-    public List<GroupDTO> searchGroups(String teacherId, String subject, Boolean archived, String keyword) {
-        return groupRepository.searchGroups(teacherId, subject, archived, keyword).stream()
-                .map(groupMapper::toDTO)
-                .collect(Collectors.toList());
+    /**
+     * The newest {@code max-page-size} matches, bounded like every other list. {@code hasNext}
+     * tells the caller that the result was cut short and /search/page has the rest.
+     */
+    public GroupPageResponse searchGroups(String teacherId, String subject, Boolean archived, String keyword) {
+        SearchRequest filter = new SearchRequest(teacherId, subject, archived, keyword);
+        return getGroupsPage(filter, null, null, maxPageSize);
+    }
+
+    public GroupPageResponse getGroupsPage(SearchRequest filter, String memberId, Long before, int size) {
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        // Fetch one extra row to know whether another page follows
+        List<GroupDTO> groups = groupRepository.findGroupPage(filter, memberId, before, pageSize + 1);
+        boolean hasNext = groups.size() > pageSize;
+        if (hasNext) {
+            groups = groups.subList(0, pageSize);
+        }
+        Long nextCursor = groups.isEmpty() ? null : groups.get(groups.size() - 1).getId();
+        return new GroupPageResponse(groups, nextCursor, hasNext);
     }
 
     public List<GroupDTO> getGroupsByTeacherId(String teacherId) {
-        return groupRepository.findGroupsByTeacherId(teacherId).stream()
-                .map(groupMapper::toDTO)
-                .collect(Collectors.toList());
+        return groupRepository.findGroupsByTeacherId(teacherId);
     }
 
     public List<GroupDTO> getActiveGroupsByUserId(String userId) {
-        return groupRepository.findActiveGroupsByUserId(userId).stream()
-                .map(groupMapper::toDTO)
-                .collect(Collectors.toList());
+        return groupRepository.findActiveGroupsByUserId(userId);
     }
 
     public List<GroupDTO> getArchivedGroupsByUserId(String userId) {
-        return groupRepository.findArchivedGroupsByUserId(userId).stream()
-                .map(groupMapper::toDTO)
-                .collect(Collectors.toList());
+        return groupRepository.findArchivedGroupsByUserId(userId);
     }
 
     public GroupDTO getGroupById(Long id) {
-        return groupRepository.findById(id)
-                .map(groupMapper::toDTO)
-                .orElse(null);
+        return groupRepository.findGroupById(id).orElse(null);
     }
 
     public GroupDTO updateGroup(Long id, GroupDTO groupDTO) {
@@ -92,33 +108,40 @@ public class GroupService {
                     group.setDescription(groupDTO.getDescription());
                     group.setSubject(groupDTO.getSubject());
                     group.setArchived(groupDTO.isArchived());
-                    return groupMapper.toDTO(groupRepository.save(group));
+                    Group savedGroup = groupRepository.save(group);
+                    statisticsService.invalidate();
+                    return groupMapper.toDTO(savedGroup, groupMemberRepository.countByGroupId(id));
                 })
                 .orElse(null);
     }
 
-    public void deleteGroup(Long id) {
-        Group group = groupRepository.findById(id).orElse(null);
-        if (group != null) {
-            groupRepository.deleteById(id);
-            
-            // Send notification
-            NotificationDTO notification = new NotificationDTO();
-            notification.setType("GROUP_DELETED");
-            notification.setGroupId(id.toString());
-            notification.setGroupName(group.getName());
-            notification.setMessage("Group '" + group.getName() + "' has been deleted");
-            notification.setTimestamp(LocalDateTime.now().toString());
-            
-            notificationService.sendNotificationToAll(notification);
+    /**
+     * Starts the asynchronous teardown of a group.
+     *
+     * @return the teardown progress, or null if the group does not exist
+     */
+    public GroupTeardownStatus deleteGroup(Long id) {
+        GroupTeardownStatus status = groupTeardownService.register(id);
+        if (status == null) {
+            return null;
+        }
+
+        if ("PENDING".equals(status.getState())) {
+            groupTeardownService.tearDown(id);
         }
+        return status;
+    }
+
+    public GroupTeardownStatus getTeardownStatus(Long id) {
+        return groupTeardownService.getStatus(id);
     }
 
     public void archiveGroup(Long id) {
         groupRepository.findById(id).ifPresent(group -> {
             group.setArchived(true);
             Group savedGroup = groupRepository.save(group);
-            
+            statisticsService.invalidate();
+
             // Send notification
             NotificationDTO notification = new NotificationDTO();
             notification.setType("GROUP_ARCHIVED");
@@ -0,0 +1,47 @@
+package com.anas.groupservice.service;
+
+import com.anas.groupservice.repository.GroupTeardownRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Resumes group teardowns that no worker is running: those left behind by an instance that
+ * stopped mid-teardown, and requests whose worker never started. Runs shortly after startup
+ * and then periodically; the claim in {@link GroupTeardownService#tearDown(Long)} keeps two
+ * replicas from running the same teardown. Finished teardowns are dropped after the
+ * retention period.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupTeardownRecoveryJob {
+
+    private final GroupTeardownRepository groupTeardownRepository;
+    private final GroupTeardownService groupTeardownService;
+
+    @Value("${application.groups.teardown.stale-after:5m}")
+    private Duration staleAfter;
+
+    @Value("${application.groups.teardown.history-days:7}")
+    private int historyDays;
+
+    @Scheduled(initialDelayString = "${application.groups.teardown.recovery.initial-delay:30s}",
+            fixedDelayString = "${application.groups.teardown.recovery.interval:1m}")
+    public void resumeUnfinishedTeardowns() {
+        int requeued = groupTeardownRepository.requeueStale(LocalDateTime.now().minus(staleAfter));
+        List<Long> pending = groupTeardownRepository.findPendingGroupIds();
+        pending.forEach(groupTeardownService::tearDown);
+        if (requeued > 0 || !pending.isEmpty()) {
+            log.info("Group teardown recovery: requeued {} stalled, resumed {} pending", requeued, pending.size());
+        }
+
+        groupTeardownRepository.deleteFinishedBefore(LocalDateTime.now().minusDays(historyDays));
+    }
+}
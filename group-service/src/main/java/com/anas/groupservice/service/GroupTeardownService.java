@@ -0,0 +1,178 @@
+package com.anas.groupservice.service;
+
+import com.anas.groupservice.dto.GroupTeardownStatus;
+import com.anas.groupservice.dto.NotificationDTO;
+import com.anas.groupservice.entity.Group;
+import com.anas.groupservice.entity.GroupTeardown;
+import com.anas.groupservice.repository.GroupMemberRepository;
+import com.anas.groupservice.repository.GroupPostRepository;
+import com.anas.groupservice.repository.GroupRepository;
+import com.anas.groupservice.repository.GroupTeardownRepository;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Deletes a group in the background: members and posts go in small set-based batches, each
+ * in its own short transaction, then the group row, then its upload directory. Progress is
+ * persisted in group_teardowns, so clients can poll any replica and a teardown interrupted
+ * by a restart is resumed by {@link GroupTeardownRecoveryJob}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GroupTeardownService {
+
+    private final GroupRepository groupRepository;
+    private final GroupMemberRepository groupMemberRepository;
+    private final GroupPostRepository groupPostRepository;
+    private final GroupTeardownRepository groupTeardownRepository;
+    private final FileService fileService;
+    private final GroupMembershipIndex membershipIndex;
+    private final GroupPostFeedCache feedCache;
+    private final StatisticsService statisticsService;
+    private final NotificationService notificationService;
+
+    @Value("${application.groups.teardown.batch-size:500}")
+    private int batchSize;
+
+    public GroupTeardownStatus getStatus(Long groupId) {
+        return groupTeardownRepository.findById(groupId).map(this::toStatus).orElse(null);
+    }
+
+    public boolean isBeingDeleted(Long groupId) {
+        return groupTeardownRepository.isUnfinished(groupId);
+    }
+
+    /**
+     * Records a new teardown request, or returns the one already in progress for this group.
+     *
+     * @return the teardown progress, or null if the group does not exist
+     */
+    @Transactional
+    public GroupTeardownStatus register(Long groupId) {
+        // Locking the group row waits out member writes that started before this request
+        Group group = groupRepository.findByIdForUpdate(groupId).orElse(null);
+        GroupTeardown teardown = groupTeardownRepository.findById(groupId).orElse(null);
+        if (teardown != null && ("PENDING".equals(teardown.getState()) || "RUNNING".equals(teardown.getState()))) {
+            return toStatus(teardown);
+        }
+        if (group == null) {
+            return null;
+        }
+
+        if (teardown == null) {
+            teardown = new GroupTeardown();
+            teardown.setGroupId(groupId);
+        }
+        teardown.setGroupName(group.getName());
+        teardown.setState("PENDING");
+        teardown.setMembersDeleted(0);
+        teardown.setPostsDeleted(0);
+        teardown.setFilesDeleted(0);
+        teardown.setError(null);
+        teardown.setRequestedAt(LocalDateTime.now());
+        teardown.setClaimedBy(null);
+        teardown.setHeartbeatAt(null);
+        teardown.setFinishedAt(null);
+        return toStatus(groupTeardownRepository.save(teardown));
+    }
+
+    @Async("groupTeardownExecutor")
+    @Observed(name = "group.teardown")
+    public void tearDown(Long groupId) {
+        // A repeated DELETE, the recovery job or another replica may have queued this teardown too;
+        // only the worker that claims the PENDING row proceeds, and only while it keeps the claim
+        String worker = UUID.randomUUID().toString();
+        if (groupTeardownRepository.claim(groupId, worker, LocalDateTime.now()) == 0) {
+            return;
+        }
+        GroupTeardown teardown = groupTeardownRepository.findById(groupId).orElseThrow();
+        long membersDeleted = teardown.getMembersDeleted();
+        long postsDeleted = teardown.getPostsDeleted();
+        long filesDeleted = 0;
+        String state = "COMPLETED";
+        String error = null;
+        try {
+            // Members first, so that authorization checks fail as early as possible
+            int deleted;
+            do {
+                deleted = groupMemberRepository.deleteBatchByGroupId(groupId, batchSize);
+                membersDeleted += deleted;
+                if (!heartbeat(groupId, worker, membersDeleted, postsDeleted)) {
+                    return;
+                }
+            } while (deleted == batchSize);
+            membershipIndex.evictGroup(groupId);
+
+            do {
+                deleted = groupPostRepository.deleteBatchByGroupId(groupId, batchSize);
+                postsDeleted += deleted;
+                if (!heartbeat(groupId, worker, membersDeleted, postsDeleted)) {
+                    return;
+                }
+            } while (deleted == batchSize);
+            feedCache.evict(groupId);
+
+            groupRepository.deleteGroupRow(groupId);
+            statisticsService.invalidate();
+
+            filesDeleted = fileService.deleteGroupFiles(groupId);
+            if (!heartbeat(groupId, worker, membersDeleted, postsDeleted)) {
+                return;
+            }
+
+            // Send notification
+            NotificationDTO notification = new NotificationDTO();
+            notification.setType("GROUP_DELETED");
+            notification.setGroupId(groupId.toString());
+            notification.setGroupName(teardown.getGroupName());
+            notification.setMessage("Group '" + teardown.getGroupName() + "' has been deleted");
+            notification.setTimestamp(LocalDateTime.now().toString());
+
+            notificationService.sendNotificationToAll(notification);
+
+            log.info("Deleted group {}: {} members, {} posts, {} files",
+                    groupId, membersDeleted, postsDeleted, filesDeleted);
+        } catch (Exception e) {
+            state = "FAILED";
+            error = e.getMessage();
+            log.error("Teardown of group {} failed", groupId, e);
+        }
+        if (groupTeardownRepository.finish(groupId, worker, state, membersDeleted, postsDeleted, filesDeleted,
+                error, LocalDateTime.now()) == 0) {
+            log.warn("Teardown of group {} was taken over by another worker before it finished", groupId);
+        }
+    }
+
+    /**
+     * @return false if this worker no longer holds the teardown and has to stop
+     */
+    private boolean heartbeat(Long groupId, String worker, long membersDeleted, long postsDeleted) {
+        if (groupTeardownRepository.heartbeat(groupId, worker, membersDeleted, postsDeleted, LocalDateTime.now()) == 1) {
+            return true;
+        }
+        log.warn("Teardown of group {} was requeued and taken over by another worker, stopping", groupId);
+        return false;
+    }
+
+    private GroupTeardownStatus toStatus(GroupTeardown teardown) {
+        GroupTeardownStatus status = new GroupTeardownStatus();
+        status.setGroupId(teardown.getGroupId());
+        status.setState(teardown.getState());
+        status.setMembersDeleted(teardown.getMembersDeleted());
+        status.setPostsDeleted(teardown.getPostsDeleted());
+        status.setFilesDeleted(teardown.getFilesDeleted());
+        status.setError(teardown.getError());
+        status.setRequestedAt(teardown.getRequestedAt());
+        status.setFinishedAt(teardown.getFinishedAt());
+        return status;
+    }
+}
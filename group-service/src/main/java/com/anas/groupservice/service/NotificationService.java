@@ -1,16 +1,21 @@
 package com.anas.groupservice.service;
 
 import com.anas.groupservice.dto.NotificationDTO;
+import com.anas.groupservice.dto.NotificationPageResponse;
 import com.anas.groupservice.entity.Notification;
 import com.anas.groupservice.mapper.NotificationMapper;
 import com.anas.groupservice.repository.NotificationRepository;
 import jakarta.ws.rs.NotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -22,23 +27,27 @@ public class NotificationService {
     private final SimpMessagingTemplate messagingTemplate;
     private final NotificationRepository notificationRepository;
     private final NotificationMapper notificationMapper;
+    private final GroupNotificationFanoutService groupNotificationFanoutService;
+
+    @Value("${application.notifications.inbox.max-size:100}")
+    private int inboxMaxSize;
+
+    @Value("${application.notifications.inbox.max-page-size:50}")
+    private int maxPageSize;
 
     @Transactional
     public NotificationDTO createAndSendGroupNotification(String groupId, NotificationDTO notificationDTO) {
-        // Persist notification
-        Notification notification = notificationMapper.toEntity(notificationDTO);
-        if (groupId != null && !groupId.isEmpty()) {
-            notification.setGroupId(Long.valueOf(groupId));
+        if (groupId == null || groupId.isEmpty()) {
+            throw new IllegalArgumentException("Group id is required for a group notification");
         }
-        notification.setRead(false);
-        
-        Notification savedNotification = notificationRepository.save(notification);
-        
-        // Send real-time notification
+        notificationDTO.setGroupId(groupId);
+        notificationDTO.setRead(false);
+
+        // One row per active member, written in a single statement and pushed after commit
         log.info("Sending notification to group {}: {}", groupId, notificationDTO);
-        messagingTemplate.convertAndSend("/topic/group/" + groupId, notificationDTO);
-        
-        return notificationMapper.toDTO(savedNotification);
+        groupNotificationFanoutService.fanOut(Long.valueOf(groupId), notificationDTO);
+
+        return notificationDTO;
     }
 
     @Transactional
@@ -73,19 +82,46 @@ public class NotificationService {
     }
 
     public List<NotificationDTO> getUserNotifications(String userId) {
-        return notificationRepository.findByUserIdOrderByCreatedDateDesc(userId)
+        return notificationRepository.findByUserIdOrderByCreatedDateDescIdDesc(userId, PageRequest.of(0, inboxMaxSize))
                 .stream()
                 .map(notificationMapper::toDTO)
                 .toList();
     }
 
     public List<NotificationDTO> getUnreadUserNotifications(String userId) {
-        return notificationRepository.findByUserIdAndIsReadOrderByCreatedDateDesc(userId, false)
+        return notificationRepository.findByUserIdAndIsReadOrderByCreatedDateDescIdDesc(userId, false, PageRequest.of(0, inboxMaxSize))
                 .stream()
                 .map(notificationMapper::toDTO)
                 .toList();
     }
 
+    public NotificationPageResponse getUserNotificationsPage(String userId, LocalDateTime before, Long beforeId,
+                                                             boolean unreadOnly, int size) {
+        PageRequest pageRequest = PageRequest.of(0, Math.max(1, Math.min(size, maxPageSize)));
+        Slice<Notification> slice;
+        if (before == null) {
+            slice = unreadOnly
+                    ? notificationRepository.findByUserIdAndIsReadOrderByCreatedDateDescIdDesc(userId, false, pageRequest)
+                    : notificationRepository.findByUserIdOrderByCreatedDateDescIdDesc(userId, pageRequest);
+        } else {
+            // Without an id the cursor only admits strictly older rows, as before
+            long tieBreak = beforeId != null ? beforeId : 0L;
+            slice = unreadOnly
+                    ? notificationRepository.findUnreadPageByUserIdBefore(userId, before, tieBreak, pageRequest)
+                    : notificationRepository.findPageByUserIdBefore(userId, before, tieBreak, pageRequest);
+        }
+
+        List<Notification> notifications = slice.getContent();
+        Notification last = notifications.isEmpty() ? null : notifications.get(notifications.size() - 1);
+
+        return new NotificationPageResponse(
+                notifications.stream().map(notificationMapper::toDTO).toList(),
+                last != null ? last.getCreatedDate() : null,
+                last != null ? last.getId() : null,
+                slice.hasNext()
+        );
+    }
+
     public List<NotificationDTO> getGroupNotifications(Long groupId) {
         return notificationRepository.findByGroupIdOrderByCreatedDateDesc(groupId)
                 .stream()
@@ -1,91 +1,112 @@
 package com.anas.groupservice.service;
 
+import com.anas.groupservice.dto.GroupCountsView;
+import com.anas.groupservice.dto.GroupMemberCountView;
 import com.anas.groupservice.dto.GroupStatisticsDTO;
-import com.anas.groupservice.entity.Group;
 import com.anas.groupservice.repository.GroupRepository;
 import com.anas.groupservice.repository.GroupMemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Dashboard statistics built from a handful of aggregate queries.
+ * <p>
+ * Results are kept as a summary and served as-is until a group or membership write calls
+ * {@link #invalidate()}; the next read then recomputes the summary, so the cost of a read
+ * does not depend on the number of groups. Writes served by another replica do not reach
+ * {@link #invalidate()} here, so a summary is also recomputed once it is older than {@code ttl}.
+ */
 @Service
 @RequiredArgsConstructor
 public class StatisticsService {
 
+    private static final PageRequest MOST_POPULAR = PageRequest.of(0, 1);
+
     private final GroupRepository groupRepository;
     private final GroupMemberRepository groupMemberRepository;
 
+    @Value("${application.groups.statistics.ttl:60s}")
+    private Duration ttl;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Summary globalSummary;
+    private final Map<String, Summary> teacherSummaries = new ConcurrentHashMap<>();
+
     public GroupStatisticsDTO getGroupStatistics() {
-        GroupStatisticsDTO stats = new GroupStatisticsDTO();
-        
-        List<Group> allGroups = groupRepository.findAll();
-        
-        stats.setTotalGroups((long) allGroups.size());
-        
-        long activeGroups = allGroups.stream().filter(g -> !g.isArchived()).count();
-        stats.setActiveGroups(activeGroups);
-        
-        long archivedGroups = allGroups.stream().filter(Group::isArchived).count();
-        stats.setArchivedGroups(archivedGroups);
-        
-        long totalMembers = groupMemberRepository.count();
-        stats.setTotalMembers(totalMembers);
-        
-        if (!allGroups.isEmpty()) {
-            double average = (double) totalMembers / allGroups.size();
-            stats.setAverageMembersPerGroup(Math.round(average * 100.0) / 100.0);
+        Summary summary = globalSummary;
+        if (isFresh(summary)) {
+            return summary.stats();
         }
-        
-        // Find the group with the most members
-        allGroups.stream()
-            .max((g1, g2) -> {
-                long count1 = groupMemberRepository.countActiveMembersByGroupId(g1.getId());
-                long count2 = groupMemberRepository.countActiveMembersByGroupId(g2.getId());
-                return Long.compare(count1, count2);
-            })
-            .ifPresent(group -> {
-                stats.setMostPopularGroupName(group.getName());
-                stats.setMostPopularGroupMemberCount(groupMemberRepository.countActiveMembersByGroupId(group.getId()));
-            });
-        
+
+        long computedAt = generation.get();
+        GroupStatisticsDTO stats = buildStatistics(
+                groupRepository.countGroups(),
+                groupMemberRepository.count(),
+                groupRepository.findMostPopularGroups(MOST_POPULAR));
+        globalSummary = new Summary(computedAt, System.nanoTime(), stats);
         return stats;
     }
-    
+
     public GroupStatisticsDTO getGroupStatisticsByTeacher(String teacherId) {
-        List<Group> teacherGroups = groupRepository.findGroupsByTeacherId(teacherId);
-        
+        Summary summary = teacherSummaries.get(teacherId);
+        if (isFresh(summary)) {
+            return summary.stats();
+        }
+
+        long computedAt = generation.get();
+        GroupStatisticsDTO stats = buildStatistics(
+                groupRepository.countGroupsByTeacherId(teacherId),
+                groupMemberRepository.countActiveMembersByTeacherId(teacherId),
+                groupRepository.findMostPopularGroupsByTeacherId(teacherId, MOST_POPULAR));
+        teacherSummaries.put(teacherId, new Summary(computedAt, System.nanoTime(), stats));
+        return stats;
+    }
+
+    /**
+     * Marks every cached summary as stale. Called after any write that changes groups or memberships.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        teacherSummaries.clear();
+    }
+
+    private boolean isFresh(Summary summary) {
+        return summary != null
+                && summary.generation() == generation.get()
+                && System.nanoTime() - summary.builtAt() < ttl.toNanos();
+    }
+
+    private GroupStatisticsDTO buildStatistics(GroupCountsView counts, long totalMembers, List<GroupMemberCountView> mostPopular) {
         GroupStatisticsDTO stats = new GroupStatisticsDTO();
-        stats.setTotalGroups((long) teacherGroups.size());
-        
-        long activeGroups = teacherGroups.stream().filter(g -> !g.isArchived()).count();
-        stats.setActiveGroups(activeGroups);
-        
-        long archivedGroups = teacherGroups.stream().filter(Group::isArchived).count();
-        stats.setArchivedGroups(archivedGroups);
-        
-        long totalMembers = teacherGroups.stream()
-            .mapToLong(g -> groupMemberRepository.countActiveMembersByGroupId(g.getId()))
-            .sum();
+
+        long totalGroups = counts.getTotal();
+        stats.setTotalGroups(totalGroups);
+        stats.setArchivedGroups(counts.getArchived());
+        stats.setActiveGroups(totalGroups - counts.getArchived());
         stats.setTotalMembers(totalMembers);
-        
-        if (!teacherGroups.isEmpty()) {
-            double average = (double) totalMembers / teacherGroups.size();
+
+        if (totalGroups > 0) {
+            double average = (double) totalMembers / totalGroups;
             stats.setAverageMembersPerGroup(Math.round(average * 100.0) / 100.0);
         }
-        
+
         // Find the group with the most members
-        teacherGroups.stream()
-            .max((g1, g2) -> {
-                long count1 = groupMemberRepository.countActiveMembersByGroupId(g1.getId());
-                long count2 = groupMemberRepository.countActiveMembersByGroupId(g2.getId());
-                return Long.compare(count1, count2);
-            })
-            .ifPresent(group -> {
-                stats.setMostPopularGroupName(group.getName());
-                stats.setMostPopularGroupMemberCount(groupMemberRepository.countActiveMembersByGroupId(group.getId()));
-            });
-        
+        if (!mostPopular.isEmpty()) {
+            stats.setMostPopularGroupName(mostPopular.get(0).getName());
+            stats.setMostPopularGroupMemberCount(mostPopular.get(0).getMemberCount());
+        }
+
         return stats;
     }
-}
\ No newline at end of file
+
+    private record Summary(long generation, long builtAt, GroupStatisticsDTO stats) {
+    }
+}
@@ -0,0 +1,25 @@
+-- Ids are now allocated in blocks of 50 by Hibernate's pooled optimizer instead of
+-- identity columns, which also lets Hibernate batch inserts. Existing tables get a
+-- sequence positioned after their current max id; on an empty database nothing
+-- exists yet and Hibernate creates the sequences itself.
+
+DO $$
+DECLARE
+    t RECORD;
+BEGIN
+    FOR t IN
+        SELECT * FROM (VALUES
+            ('groups', 'group_id_seq'),
+            ('group_members', 'group_member_id_seq'),
+            ('group_posts', 'group_post_id_seq'),
+            ('notifications', 'notification_id_seq')
+        ) AS v(table_name, sequence_name)
+    LOOP
+        IF to_regclass(t.table_name) IS NOT NULL THEN
+            EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I INCREMENT BY 50', t.sequence_name);
+            EXECUTE format('SELECT setval(%L, COALESCE((SELECT MAX(id) FROM %I), 0) + 1)',
+                           t.sequence_name, t.table_name);
+            EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', t.table_name);
+        END IF;
+    END LOOP;
+END $$;
@@ -0,0 +1,111 @@
+-- Baseline schema, previously maintained by ddl-auto: update. Every statement is
+-- guarded so databases that Hibernate already created are left as they are and
+-- only gain the missing indexes.
+
+CREATE SEQUENCE IF NOT EXISTS group_id_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS group_member_id_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS group_post_id_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS notification_id_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS groups (
+    id                 BIGINT NOT NULL PRIMARY KEY,
+    name               VARCHAR(255) NOT NULL,
+    description        VARCHAR(1000),
+    subject            VARCHAR(255),
+    is_archived        BOOLEAN,
+    created_by         VARCHAR(255),
+    created_date       TIMESTAMP(6),
+    last_modified_by   VARCHAR(255),
+    last_modified_date TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS group_members (
+    id                 BIGINT NOT NULL PRIMARY KEY,
+    group_id           BIGINT NOT NULL,
+    user_id            VARCHAR(255) NOT NULL,
+    is_admin           BOOLEAN,
+    is_co_admin        BOOLEAN,
+    status             VARCHAR(255),
+    created_by         VARCHAR(255),
+    created_date       TIMESTAMP(6),
+    last_modified_by   VARCHAR(255),
+    last_modified_date TIMESTAMP(6),
+    UNIQUE (group_id, user_id)
+);
+
+CREATE TABLE IF NOT EXISTS group_posts (
+    id                 BIGINT NOT NULL PRIMARY KEY,
+    group_id           BIGINT NOT NULL,
+    user_id            VARCHAR(255) NOT NULL,
+    content            TEXT,
+    type               VARCHAR(255),
+    state              VARCHAR(255),
+    file_path          VARCHAR(255),
+    file_name          VARCHAR(255),
+    created_by         VARCHAR(255),
+    created_date       TIMESTAMP(6),
+    last_modified_by   VARCHAR(255),
+    last_modified_date TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS notifications (
+    id                  BIGINT NOT NULL PRIMARY KEY,
+    type                VARCHAR(255) NOT NULL,
+    group_id            BIGINT,
+    group_name          VARCHAR(255),
+    message             TEXT,
+    user_id             VARCHAR(255),
+    user_name           VARCHAR(255),
+    is_read             BOOLEAN,
+    related_entity_id   BIGINT,
+    related_entity_type VARCHAR(255),
+    created_by          VARCHAR(255),
+    created_date        TIMESTAMP(6),
+    last_modified_by    VARCHAR(255),
+    last_modified_date  TIMESTAMP(6)
+);
+
+DO $$
+DECLARE
+    fk RECORD;
+BEGIN
+    FOR fk IN
+        SELECT * FROM (VALUES
+            ('group_members', 'group_id', 'groups', 'fk_group_members_group'),
+            ('group_posts', 'group_id', 'groups', 'fk_group_posts_group')
+        ) AS v(table_name, column_name, referenced_table, constraint_name)
+    LOOP
+        IF NOT EXISTS (
+            SELECT 1
+            FROM pg_constraint c
+            JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+            WHERE c.contype = 'f'
+              AND c.conrelid = fk.table_name::regclass
+              AND a.attname = fk.column_name
+        ) THEN
+            EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I FOREIGN KEY (%I) REFERENCES %I (id)',
+                           fk.table_name, fk.constraint_name, fk.column_name, fk.referenced_table);
+        END IF;
+    END LOOP;
+END $$;
+
+-- GroupRepository.findGroupsByTeacherId
+CREATE INDEX IF NOT EXISTS idx_groups_created_by ON groups (created_by);
+-- GroupRepository.findActiveGroupsBySubject
+CREATE INDEX IF NOT EXISTS idx_groups_subject_archived ON groups (subject, is_archived);
+
+-- Member lookups by group are served by the (group_id, user_id) unique constraint.
+-- GroupRepository.findActiveGroupsByUserId / findArchivedGroupsByUserId
+CREATE INDEX IF NOT EXISTS idx_group_members_user ON group_members (user_id);
+-- GroupMemberRepository.findActiveMembersByGroupId / countActiveMembersByGroupId
+CREATE INDEX IF NOT EXISTS idx_group_members_group_status ON group_members (group_id, status);
+
+-- GroupPostRepository published post lists and counts
+CREATE INDEX IF NOT EXISTS idx_group_posts_group_state_created ON group_posts (group_id, state, created_date);
+
+-- NotificationRepository inbox, unread count and mark-all-read
+CREATE INDEX IF NOT EXISTS idx_notifications_user_read_created ON notifications (user_id, is_read, created_date);
+-- NotificationRepository.findByGroupIdOrderByCreatedDateDesc
+CREATE INDEX IF NOT EXISTS idx_notifications_group_created ON notifications (group_id, created_date);
+-- NotificationRetentionJob
+CREATE INDEX IF NOT EXISTS idx_notifications_read_created ON notifications (is_read, created_date);
@@ -0,0 +1,8 @@
+-- Trigram indexes for the group keyword search, which matches LOWER(name) and
+-- LOWER(description) with LIKE '%keyword%'. A B-tree cannot serve an unanchored
+-- pattern; a GIN index with gin_trgm_ops can.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_groups_name_trgm ON groups USING gin (lower(name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_groups_description_trgm ON groups USING gin (lower(description) gin_trgm_ops);
@@ -0,0 +1,31 @@
+-- Cold storage for soft-deleted posts. GroupPostArchiveJob moves DELETED rows here once
+-- their grace period is over, so that group_posts only holds live posts. No foreign key
+-- to groups: archived rows outlive the group they belonged to.
+CREATE TABLE IF NOT EXISTS group_posts_archive (
+    id                 BIGINT NOT NULL PRIMARY KEY,
+    group_id           BIGINT NOT NULL,
+    user_id            VARCHAR(255) NOT NULL,
+    content            TEXT,
+    type               VARCHAR(255),
+    state              VARCHAR(255),
+    file_path          VARCHAR(255),
+    file_name          VARCHAR(255),
+    created_by         VARCHAR(255),
+    created_date       TIMESTAMP(6),
+    last_modified_by   VARCHAR(255),
+    last_modified_date TIMESTAMP(6),
+    archived_at        TIMESTAMP(6) NOT NULL
+);
+
+-- GroupPostRepository feed queries only ever read PUBLISHED rows; the partial index
+-- leaves deleted posts out entirely.
+DROP INDEX IF EXISTS idx_group_posts_group_state_created;
+CREATE INDEX IF NOT EXISTS idx_group_posts_published_group_created ON group_posts (group_id, created_date)
+    WHERE state = 'PUBLISHED';
+
+-- GroupPostRepository.deleteBatchByGroupId (group teardown), over every state
+CREATE INDEX IF NOT EXISTS idx_group_posts_group ON group_posts (group_id);
+
+-- GroupPostRepository.archiveDeletedPostsOlderThan
+CREATE INDEX IF NOT EXISTS idx_group_posts_deleted_modified ON group_posts (last_modified_date)
+    WHERE state = 'DELETED';
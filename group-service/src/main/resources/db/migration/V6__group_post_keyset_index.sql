@@ -0,0 +1,5 @@
+-- The group feed is ordered and cursored on (created_date, id) so posts that share a
+-- timestamp are neither skipped nor repeated across pages; carry id in the feed index.
+DROP INDEX IF EXISTS idx_group_posts_published_group_created;
+CREATE INDEX IF NOT EXISTS idx_group_posts_published_group_created_id ON group_posts (group_id, created_date, id)
+    WHERE state = 'PUBLISHED';
@@ -0,0 +1,22 @@
+-- Group deletion progress, previously held in memory by the instance that ran it. The row
+-- outlives the group so that any replica can answer GET /groups/{id}/teardown, and an
+-- unfinished teardown is picked up again after a restart.
+CREATE TABLE IF NOT EXISTS group_teardowns (
+    group_id        BIGINT NOT NULL PRIMARY KEY,
+    group_name      VARCHAR(255),
+    state           VARCHAR(20) NOT NULL,
+    members_deleted BIGINT NOT NULL DEFAULT 0,
+    posts_deleted   BIGINT NOT NULL DEFAULT 0,
+    files_deleted   BIGINT NOT NULL DEFAULT 0,
+    error           TEXT,
+    requested_at    TIMESTAMP(6) NOT NULL,
+    heartbeat_at    TIMESTAMP(6),
+    finished_at     TIMESTAMP(6)
+);
+
+-- GroupTeardownRepository.requeueStale / findPendingGroupIds, over unfinished teardowns only
+CREATE INDEX IF NOT EXISTS idx_group_teardowns_unfinished ON group_teardowns (state, heartbeat_at)
+    WHERE state IN ('PENDING', 'RUNNING');
+
+-- GroupTeardownRepository.deleteFinishedBefore
+CREATE INDEX IF NOT EXISTS idx_group_teardowns_finished ON group_teardowns (finished_at);
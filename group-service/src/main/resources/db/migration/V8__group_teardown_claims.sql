@@ -0,0 +1,4 @@
+-- The worker that claimed a RUNNING teardown. Progress and the final state are only written
+-- while the row is still RUNNING under this token, so a worker whose teardown was requeued as
+-- stale and claimed elsewhere cannot overwrite the new worker's row.
+ALTER TABLE group_teardowns ADD COLUMN IF NOT EXISTS claimed_by VARCHAR(36);
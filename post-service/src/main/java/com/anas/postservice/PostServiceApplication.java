@@ -1,15 +1,21 @@
 package com.anas.postservice;
 
+import com.anas.common.file.ImageVariantConfig;
+import com.anas.common.notification.NotificationRetentionJob;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableFeignClients
 @EnableCaching
 @EnableJpaAuditing
+@EnableScheduling
+@Import({ImageVariantConfig.class, NotificationRetentionJob.class})
 public class PostServiceApplication {
 
     public static void main(String[] args) {
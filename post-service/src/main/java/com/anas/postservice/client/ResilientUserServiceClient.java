@@ -0,0 +1,83 @@
+package com.anas.postservice.client;
+
+import com.anas.postservice.exception.UserServiceException;
+import com.anas.postservice.model.User;
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * {@link UserServiceClient} behind a bulkhead and a circuit breaker, so a slow or failing
+ * chat-service cannot tie up every request thread of this service. Calls run on the caller's
+ * thread, which keeps the security context the Feign interceptor reads the token from; each
+ * call is bounded by the Feign read timeout.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResilientUserServiceClient {
+
+    private final UserServiceClient userServiceClient;
+
+    @Value("${application.user-service.bulkhead.max-concurrent-calls:20}")
+    private int maxConcurrentCalls;
+
+    @Value("${application.user-service.bulkhead.max-wait:100ms}")
+    private Duration maxWait;
+
+    @Value("${application.user-service.circuit-breaker.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+
+    @Value("${application.user-service.circuit-breaker.slow-call-threshold:2s}")
+    private Duration slowCallThreshold;
+
+    @Value("${application.user-service.circuit-breaker.window-size:20}")
+    private int windowSize;
+
+    @Value("${application.user-service.circuit-breaker.open-duration:10s}")
+    private Duration openDuration;
+
+    private Bulkhead bulkhead;
+    private CircuitBreaker circuitBreaker;
+
+    @PostConstruct
+    void init() {
+        bulkhead = Bulkhead.of("user-service", BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(maxWait)
+                .build());
+        circuitBreaker = CircuitBreaker.of("user-service", CircuitBreakerConfig.custom()
+                .slidingWindowSize(windowSize)
+                .minimumNumberOfCalls(Math.max(1, windowSize / 2))
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallThreshold)
+                .slowCallRateThreshold(failureRateThreshold)
+                .waitDurationInOpenState(openDuration)
+                .permittedNumberOfCallsInHalfOpenState(3)
+                // A 4xx is an answer, not a sign that chat-service is unhealthy
+                .recordException(e -> !(e instanceof FeignException feign) || feign.status() < 0 || feign.status() >= 500)
+                .build());
+    }
+
+    public User getUserById(String id) {
+        return call(() -> userServiceClient.getUserById(id));
+    }
+
+    private <T> T call(Supplier<T> supplier) {
+        try {
+            return circuitBreaker.executeSupplier(Bulkhead.decorateSupplier(bulkhead, supplier));
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            throw new UserServiceException("User service unavailable: " + e.getMessage(), e);
+        }
+    }
+}
@@ -33,6 +33,7 @@ public class CacheConfig {
 
         return RedisCacheManager.builder(redisConnectionFactory)
                 .cacheDefaults(cacheConfig)
+                .enableStatistics()
                 .build();
     }
 
@@ -1,5 +1,6 @@
 package com.anas.postservice.config;
 
+import com.anas.common.security.InternalIdentityJwtDecoder;
 import feign.RequestInterceptor;
 import feign.RequestTemplate;
 import org.springframework.context.annotation.Bean;
@@ -7,6 +8,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 @Configuration
 public class FeignConfig {
@@ -16,12 +19,20 @@ public class FeignConfig {
         return new RequestInterceptor() {
             @Override
             public void apply(RequestTemplate template) {
+                // traceparent is added by OpenFeign's Micrometer observation capability, not here
                 Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
                 if (authentication instanceof JwtAuthenticationToken) {
                     JwtAuthenticationToken jwtAuth = (JwtAuthenticationToken) authentication;
                     String token = jwtAuth.getToken().getTokenValue();
                     template.header("Authorization", "Bearer " + token);
                 }
+                // Lets the called service trust the token without verifying it again
+                if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+                    String identity = attributes.getRequest().getHeader(InternalIdentityJwtDecoder.HEADER);
+                    if (identity != null) {
+                        template.header(InternalIdentityJwtDecoder.HEADER, identity);
+                    }
+                }
             }
         };
     }
@@ -0,0 +1,44 @@
+package com.anas.postservice.config;
+
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+
+/**
+ * Writes the current trace context ({@code traceparent}) into the native headers of every
+ * MESSAGE frame sent to a WebSocket client, so a pushed message can be matched to the request
+ * or background task that produced it.
+ * <p>
+ * The broker is synchronous, so {@link #preSend} still runs on the thread that called
+ * {@code convertAndSend}, where that span is current.
+ */
+public class OutboundTracePropagation implements ChannelInterceptor {
+
+    private final Tracer tracer;
+    private final Propagator propagator;
+
+    public OutboundTracePropagation(Tracer tracer, Propagator propagator) {
+        this.tracer = tracer;
+        this.propagator = propagator;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return message;
+        }
+        TraceContext context = tracer.currentTraceContext().context();
+        if (context == null) {
+            return message;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        propagator.inject(context, accessor, SimpMessageHeaderAccessor::setNativeHeader);
+        return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+    }
+}
@@ -1,44 +0,0 @@
-package com.anas.postservice.config;
-
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Refill;
-
-import java.time.Duration;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
-@Configuration
-public class RateLimitingConfig {
-
-    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
-
-    @Bean
-    public Map<String, Bucket> buckets() {
-        return buckets;
-    }
-
-    public Bucket newBucket() {
-        // Allow 100 requests per minute
-        Bandwidth limit = Bandwidth.classic(100, Refill.intervally(100, Duration.ofMinutes(1)));
-        return Bucket.builder()
-                .addLimit(limit)
-                .build();
-    }
-
-    public Bucket resolveBucket(String key) {
-        return buckets.computeIfAbsent(key, k -> newBucket());
-    }
-
-    public String getClientId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null) {
-            return authentication.getName();
-        }
-        return "anonymous";
-    }
-}
\ No newline at end of file
@@ -25,7 +25,7 @@ public class WebMvcConfig implements WebMvcConfigurer {
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(rateLimitInterceptor)
                 .addPathPatterns("/api/v1/posts/**")
-                .addPathPatterns("/api/v1/files/**");
+                .addPathPatterns("/api/v1/post/files/**");
     }
     
     @Override
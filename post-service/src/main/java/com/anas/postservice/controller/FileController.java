@@ -2,6 +2,7 @@ package com.anas.postservice.controller;
 
 import com.anas.postservice.dto.UploadFileRequest;
 import com.anas.postservice.file.FileService;
+import com.anas.postservice.interceptor.RateLimitCost;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,6 +10,7 @@ import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
@@ -31,6 +33,7 @@ public class FileController {
     @Value("${application.file.uploads.post-output-path:./post-uploads}")
     private String fileUploadPath;
 
+    @RateLimitCost(10)
     @PostMapping(
             value = "/upload",
             consumes = MediaType.MULTIPART_FORM_DATA_VALUE
@@ -50,6 +53,16 @@ public class FileController {
         }
     }
     
+    @GetMapping("/image")
+    public ResponseEntity<Resource> getImage(
+            @RequestParam("path") String path,
+            @RequestParam(value = "size", required = false) String size) {
+        Resource resource = new FileSystemResource(fileService.resolveImage(path, size));
+        return ResponseEntity.ok()
+                .contentType(MediaTypeFactory.getMediaType(resource).orElse(MediaType.APPLICATION_OCTET_STREAM))
+                .body(resource);
+    }
+
     @GetMapping("/debug/info")
     public ResponseEntity<Map<String, Object>> getDebugInfo() {
         Map<String, Object> debugInfo = new HashMap<>();
@@ -7,6 +7,7 @@ import com.anas.postservice.entities.Like;
 import com.anas.postservice.entities.Post;
 import com.anas.postservice.entities.Bookmark;
 import com.anas.postservice.enumeration.PostStatus;
+import com.anas.postservice.interceptor.RateLimitCost;
 import com.anas.postservice.service.PostService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -15,12 +16,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -29,8 +32,11 @@ import java.util.List;
 @Tag(name = "Post")
 public class PostController {
 
+    private static final int MAX_VIEWER_STATE_IDS = 100;
+
     private final PostService postService;
 
+    @RateLimitCost(10)
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<Post> createPost(
             @Valid @ModelAttribute CreatePostRequest postRequest, // Changed to @ModelAttribute
@@ -42,17 +48,18 @@ public class PostController {
     }
 
     @GetMapping
-    public ResponseEntity<Page<Post>> getAllPosts(
+    public ResponseEntity<Page<PostView>> getAllPosts(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            Authentication authentication) {
 
         Pageable pageable = PageRequest.of(page, size);
         Page<Post> postResponses = postService.getAllPosts(pageable);
-        return ResponseEntity.ok(postResponses);
+        return ResponseEntity.ok(postService.withViewerState(postResponses, authentication.getName()));
     }
 
     @GetMapping("/my-posts")
-    public ResponseEntity<Page<Post>> getMyPosts(
+    public ResponseEntity<Page<PostView>> getMyPosts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             Authentication authentication) {
@@ -60,24 +67,28 @@ public class PostController {
         String userId = authentication.getName();
         Pageable pageable = PageRequest.of(page, size);
         Page<Post> posts = postService.getPostsByAuthorId(userId, pageable);
-        return ResponseEntity.ok(posts);
+        return ResponseEntity.ok(postService.withViewerState(posts, userId));
     }
 
 
 
 
     @GetMapping("/trending")
-    public ResponseEntity<Page<Post>> getTrendingPosts(
+    public ResponseEntity<Page<PostView>> getTrendingPosts(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            Authentication authentication) {
 
         Pageable pageable = PageRequest.of(page, size);
         Page<Post> posts = postService.getTrendingPosts(pageable);
-        return ResponseEntity.ok(posts);
+        // Carries the caller's like/bookmark state, so only per-user caches may keep it
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(15)).cachePrivate())
+                .body(postService.withViewerState(posts, authentication.getName()));
     }
 
     @GetMapping("/my-pending")
-    public ResponseEntity<Page<Post>> getMyPendingPosts(
+    public ResponseEntity<Page<PostView>> getMyPendingPosts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             Authentication authentication) {
@@ -85,7 +96,7 @@ public class PostController {
         String userId = authentication.getName();
         Pageable pageable = PageRequest.of(page, size);
         Page<Post> posts = postService.getPendingPostsByAuthorId(userId, pageable);
-        return ResponseEntity.ok(posts);
+        return ResponseEntity.ok(postService.withViewerState(posts, userId));
     }
 
 
@@ -127,6 +138,18 @@ public class PostController {
         return ResponseEntity.ok(like);
     }
 
+    @GetMapping("/viewer-state")
+    public ResponseEntity<List<ViewerStateResponse>> getViewerState(
+            @RequestParam("ids") List<Long> postIds,
+            Authentication authentication) {
+
+        if (postIds.size() > MAX_VIEWER_STATE_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_VIEWER_STATE_IDS + " post ids per request");
+        }
+        List<ViewerStateResponse> states = postService.getViewerState(postIds, authentication.getName());
+        return ResponseEntity.ok(states);
+    }
+
     @GetMapping("/{post-id}/liked")
     public ResponseEntity<Boolean> isPostLikedByUser(
             @PathVariable("post-id") Long postId,
@@ -158,7 +181,7 @@ public class PostController {
     }
 
     @GetMapping("/bookmarks")
-    public ResponseEntity<Page<Post>> getBookmarkedPosts(
+    public ResponseEntity<Page<PostView>> getBookmarkedPosts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             Authentication authentication) {
@@ -166,21 +189,24 @@ public class PostController {
         String userId = authentication.getName();
         Pageable pageable = PageRequest.of(page, size);
         Page<Post> posts = postService.getBookmarkedPostsByUser(userId, pageable);
-        return ResponseEntity.ok(posts);
+        return ResponseEntity.ok(postService.withViewerState(posts, userId));
     }
 
+    @RateLimitCost(3)
     @GetMapping("/search")
-    public ResponseEntity<Page<Post>> searchPosts(
+    public ResponseEntity<Page<PostView>> searchPosts(
             @RequestParam("query") String query,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            Authentication authentication) {
 
         Pageable pageable = PageRequest.of(page, size);
         Page<Post> posts = postService.searchApprovedPosts(query, pageable);
-        return ResponseEntity.ok(posts);
+        return ResponseEntity.ok(postService.withViewerState(posts, authentication.getName()));
     }
 
 
+    @RateLimitCost(2)
     @PostMapping("/{postId}/comments")
     public ResponseEntity<CommentResponse> addComment(
             @PathVariable Long postId,
@@ -0,0 +1,21 @@
+package com.anas.postservice.dto;
+
+import com.anas.postservice.entities.Post;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A post as one viewer sees it: the post's own fields, serialized inline, plus whether the
+ * viewer liked or bookmarked it. The flags are kept out of {@link Post} so that a post
+ * instance can be cached and shared between viewers.
+ */
+@Getter
+@AllArgsConstructor
+public class PostView {
+
+    @JsonUnwrapped
+    private final Post post;
+    private final boolean likedByMe;
+    private final boolean bookmarkedByMe;
+}
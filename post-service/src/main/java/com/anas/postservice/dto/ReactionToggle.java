@@ -0,0 +1,23 @@
+package com.anas.postservice.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outcome of a like/bookmark toggle, read straight from the statement that applied it.
+ */
+public interface ReactionToggle {
+
+    /** Whether the reaction exists after the toggle. */
+    boolean getActive();
+
+    /** Id of the row inserted by this toggle, null when it removed one. */
+    Long getReactionId();
+
+    LocalDateTime getReactionDate();
+
+    Long getCount();
+
+    String getAuthorId();
+
+    String getContent();
+}
@@ -0,0 +1,12 @@
+package com.anas.postservice.dto;
+
+/**
+ * One like or bookmark of the current viewer, as returned by the batched viewer-state query.
+ */
+public interface ViewerReaction {
+
+    Long getPostId();
+
+    /** LIKE or BOOKMARK. */
+    String getKind();
+}
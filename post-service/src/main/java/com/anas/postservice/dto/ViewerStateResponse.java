@@ -0,0 +1,16 @@
+package com.anas.postservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ViewerStateResponse {
+    private Long postId;
+    private boolean liked;
+    private boolean bookmarked;
+}
@@ -18,12 +18,13 @@ import static jakarta.persistence.GenerationType.SEQUENCE;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "bookmarks")
+@Table(name = "bookmarks",
+       uniqueConstraints = {@UniqueConstraint(columnNames = {"post_id", "user_id"})})
 public class Bookmark extends BaseAuditingEntity implements Serializable {
     private static final long serialVersionUID = 1L;
     
     @Id
-    @SequenceGenerator(name = "bookmark_id_seq", sequenceName = "bookmark_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "bookmark_id_seq", sequenceName = "bookmark_id_seq", allocationSize = 50)
     @GeneratedValue(strategy = SEQUENCE, generator = "bookmark_id_seq")
     private Long id;
     
@@ -25,7 +25,7 @@ public class Comment extends BaseAuditingEntity implements Serializable {
     private static final long serialVersionUID = 1L;
     
     @Id
-    @SequenceGenerator(name = "comment_id_seq", sequenceName = "comment_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "comment_id_seq", sequenceName = "comment_id_seq", allocationSize = 50)
     @GeneratedValue(strategy = SEQUENCE, generator = "comment_id_seq")
     private Long id;
     
@@ -18,12 +18,13 @@ import static jakarta.persistence.GenerationType.SEQUENCE;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "likes")
+@Table(name = "likes",
+       uniqueConstraints = {@UniqueConstraint(columnNames = {"post_id", "user_id"})})
 public class Like extends BaseAuditingEntity implements Serializable {
     private static final long serialVersionUID = 1L;
     
     @Id
-    @SequenceGenerator(name = "like_id_seq", sequenceName = "like_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "like_id_seq", sequenceName = "like_id_seq", allocationSize = 50)
     @GeneratedValue(strategy = SEQUENCE, generator = "like_id_seq")
     private Long id;
     
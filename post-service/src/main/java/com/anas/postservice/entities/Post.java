@@ -26,7 +26,7 @@ public class Post extends BaseAuditingEntity implements Serializable {
     private static final long serialVersionUID = 1L;
     
     @Id
-    @SequenceGenerator(name = "post_id_seq", sequenceName = "post_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "post_id_seq", sequenceName = "post_id_seq", allocationSize = 50)
     @GeneratedValue(strategy = SEQUENCE, generator = "post_id_seq")
     private Long id;
 
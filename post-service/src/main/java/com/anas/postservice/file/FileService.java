@@ -1,5 +1,7 @@
 package com.anas.postservice.file;
 
+import com.anas.common.file.ImageVariantService;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.Nonnull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +26,9 @@ public class FileService {
     @Value("${application.file.uploads.post-output-path:./post-uploads}")
     private String fileUploadPath;
 
+    private final ImageVariantService imageVariantService;
+    private final MeterRegistry meterRegistry;
+
     public String saveFile(
             @Nonnull MultipartFile sourceFile,
             @Nonnull Long postId,
@@ -33,6 +38,49 @@ public class FileService {
         return uploadFile(sourceFile, fileUploadSubPath);
     }
 
+    /**
+     * Maps a web path returned by {@link #saveFile} back to the file on disk, at the requested
+     * size when that variant exists.
+     */
+    public Path resolveImage(@Nonnull String webPath, String size) {
+        final String prefix = "/post-uploads/";
+        if (!webPath.startsWith(prefix)) {
+            throw new IllegalArgumentException("Not an uploaded file: " + webPath);
+        }
+        Path root = Paths.get(fileUploadPath).toAbsolutePath().normalize();
+        Path original = root.resolve(webPath.substring(prefix.length())).normalize();
+        if (!original.startsWith(root) || !Files.isRegularFile(original)) {
+            throw new IllegalArgumentException("File not found: " + webPath);
+        }
+        return imageVariantService.resolve(original, ImageVariantService.Size.from(size));
+    }
+
+    /**
+     * Deletes an image uploaded for a post, with its variants. Web paths that were not uploaded
+     * for this post (such as a URL given when the post was created) are left alone.
+     *
+     * @return true if the original was deleted
+     */
+    public boolean deletePostImage(@Nonnull Long postId, @Nonnull String webPath) {
+        final String prefix = "/post-uploads/";
+        if (!webPath.startsWith(prefix + "posts/" + postId + "/")) {
+            return false;
+        }
+        Path root = Paths.get(fileUploadPath).toAbsolutePath().normalize();
+        Path original = root.resolve(webPath.substring(prefix.length())).normalize();
+        if (!original.startsWith(root.resolve("posts").resolve(postId.toString()))) {
+            log.warn("Refusing to delete " + webPath + ": outside the post's upload directory");
+            return false;
+        }
+        try {
+            imageVariantService.deleteVariants(original);
+            return Files.deleteIfExists(original);
+        } catch (IOException e) {
+            log.warn("Files of post " + postId + " were not deleted: " + webPath, e);
+            return false;
+        }
+    }
+
     private String uploadFile(
             @Nonnull MultipartFile sourceFile,
             @Nonnull String fileUploadSubPath
@@ -52,8 +100,11 @@ public class FileService {
         String targetFilePath = finalUploadPath + separator + fileName;
         Path targetPath = Paths.get(targetFilePath);
         try {
-            Files.write(targetPath, sourceFile.getBytes());
+            byte[] content = sourceFile.getBytes();
+            Files.write(targetPath, content);
+            meterRegistry.counter("file.io.bytes", "operation", "write").increment(content.length);
             log.info("File saved to: " + targetFilePath);
+            imageVariantService.generateVariantsAsync(targetFilePath);
             // Return relative path for web access, using forward slashes for URLs
             String webPath = "/post-uploads/" + fileUploadSubPath.replace(separator, "/") + "/" + fileName;
             log.info("File accessible at: " + webPath);
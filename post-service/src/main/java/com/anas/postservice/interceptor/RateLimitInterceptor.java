@@ -1,38 +1,56 @@
 package com.anas.postservice.interceptor;
 
-import com.anas.postservice.config.RateLimitingConfig;
-import io.github.bucket4j.Bucket;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
 
-import java.time.Duration;
-
 @Component
 @RequiredArgsConstructor
 public class RateLimitInterceptor implements HandlerInterceptor {
 
-    private final RateLimitingConfig rateLimitingConfig;
+    private final RateLimiter rateLimiter;
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
-        String clientId = rateLimitingConfig.getClientId();
-        Bucket bucket = rateLimitingConfig.resolveBucket(clientId);
+        RateLimiter.Result result = rateLimiter.tryConsume(getClientId(request), getCost(handler));
 
-        if (bucket.tryConsume(1)) {
+        if (result.allowed()) {
             // Add rate limit headers
-            long remainingTokens = bucket.getAvailableTokens();
-            response.addHeader("X-Rate-Limit-Remaining", String.valueOf(remainingTokens));
+            response.addHeader("X-Rate-Limit-Remaining", String.valueOf(result.remaining()));
             return true;
         } else {
             // Rate limit exceeded
             response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-            response.addHeader("X-Rate-Limit-Retry-After-Seconds", "60");
+            response.addHeader("X-Rate-Limit-Retry-After-Seconds", String.valueOf(result.retryAfterSeconds()));
             response.getWriter().write("Too many requests. Please try again later.");
             return false;
         }
     }
-}
\ No newline at end of file
+
+    private int getCost(Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            RateLimitCost cost = handlerMethod.getMethodAnnotation(RateLimitCost.class);
+            if (cost != null) {
+                return cost.value();
+            }
+        }
+        return 1;
+    }
+
+    private String getClientId(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        // The client behind the gateway, resolved from X-Forwarded-For (server.forward-headers-strategy)
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,126 @@
+package com.anas.postservice.interceptor;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Token-bucket rate limiter shared by all instances. Each bucket lives in Redis and is
+ * updated atomically by a Lua script; idle buckets expire on their own once they would be
+ * full again. If Redis cannot be reached, requests are limited per instance with a bounded
+ * set of local buckets until it comes back. A circuit breaker in front of Redis sends every
+ * request to the local buckets as soon as a call fails or is slow, so an outage costs one
+ * timed-out request per open period rather than the Redis timeout on every request.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimiter {
+
+    public record Result(boolean allowed, long remaining, long retryAfterSeconds) {
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOKEN_BUCKET =
+            RedisScript.of(new ClassPathResource("scripts/token-bucket.lua"), List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${application.rate-limit.capacity:100}")
+    private long capacity;
+
+    @Value("${application.rate-limit.refill-period:1m}")
+    private Duration refillPeriod;
+
+    @Value("${application.rate-limit.local-max-buckets:10000}")
+    private int localMaxBuckets;
+
+    @Value("${application.rate-limit.circuit-breaker.window-size:10}")
+    private int windowSize;
+
+    @Value("${application.rate-limit.circuit-breaker.slow-call-threshold:250ms}")
+    private Duration slowCallThreshold;
+
+    @Value("${application.rate-limit.circuit-breaker.open-duration:30s}")
+    private Duration openDuration;
+
+    private Map<String, Bucket> localBuckets;
+
+    private CircuitBreaker circuitBreaker;
+
+    @PostConstruct
+    void init() {
+        circuitBreaker = CircuitBreaker.of("rate-limit-store", CircuitBreakerConfig.custom()
+                .slidingWindowSize(windowSize)
+                // A single failed or slow call is enough to stop waiting on Redis
+                .minimumNumberOfCalls(1)
+                .failureRateThreshold(50)
+                .slowCallDurationThreshold(slowCallThreshold)
+                .slowCallRateThreshold(50)
+                .waitDurationInOpenState(openDuration)
+                .permittedNumberOfCallsInHalfOpenState(1)
+                .recordExceptions(DataAccessException.class)
+                .build());
+        // Logged once per transition instead of once per request
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            if (event.getStateTransition().getToState() == CircuitBreaker.State.OPEN) {
+                log.warn("Rate limit store unavailable, limiting locally for {}", openDuration);
+            } else {
+                log.info("Rate limit store circuit {}", event.getStateTransition());
+            }
+        });
+
+        localBuckets = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                return size() > localMaxBuckets;
+            }
+        });
+    }
+
+    public Result tryConsume(String clientId, int cost) {
+        try {
+            return circuitBreaker.executeSupplier(() -> tryConsumeShared(clientId, cost));
+        } catch (CallNotPermittedException | DataAccessException e) {
+            return tryConsumeLocally(clientId, cost);
+        }
+    }
+
+    private Result tryConsumeShared(String clientId, int cost) {
+        @SuppressWarnings("unchecked")
+        List<Long> result = redisTemplate.execute(TOKEN_BUCKET, List.of("rate-limit:" + clientId),
+                String.valueOf(capacity), String.valueOf(refillPeriod.toMillis()), String.valueOf(cost));
+        return new Result(result.get(0) == 1L, result.get(1), toSeconds(result.get(2)));
+    }
+
+    private Result tryConsumeLocally(String clientId, int cost) {
+        Bucket bucket = localBuckets.computeIfAbsent(clientId, key -> Bucket.builder()
+                .addLimit(Bandwidth.builder().capacity(capacity).refillGreedy(capacity, refillPeriod).build())
+                .build());
+        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(cost);
+        return new Result(probe.isConsumed(), probe.getRemainingTokens(),
+                toSeconds(Duration.ofNanos(probe.getNanosToWaitForRefill()).toMillis()));
+    }
+
+    private static long toSeconds(long millis) {
+        return (millis + 999) / 1000;
+    }
+}
@@ -0,0 +1,24 @@
+package com.anas.postservice.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificationPageResponse implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private List<NotificationDTO> content;
+    // Pass back as "before" and "beforeId" to fetch the next (older) page
+    private LocalDateTime nextCursor;
+    private Long nextCursorId;
+    private boolean hasNext;
+}
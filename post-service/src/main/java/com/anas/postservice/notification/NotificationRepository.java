@@ -1,15 +1,20 @@
 package com.anas.postservice.notification;
 
+import com.anas.common.notification.ReadNotificationStore;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
+public interface NotificationRepository extends JpaRepository<Notification, Long>, ReadNotificationStore {
 
     @Query("SELECT n FROM Notification n WHERE n.userId = :userId ORDER BY n.createdDate DESC")
     List<Notification> findByUserIdOrderByCreatedDateDesc(@Param("userId") String userId);
@@ -17,6 +22,25 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("SELECT n FROM Notification n WHERE n.userId = :userId AND n.isRead = false ORDER BY n.createdDate DESC")
     List<Notification> findByUserIdAndIsReadOrderByCreatedDateDesc(@Param("userId") String userId, @Param("isRead") boolean isRead);
 
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId ORDER BY n.createdDate DESC, n.id DESC")
+    Slice<Notification> findPageByUserId(@Param("userId") String userId, Pageable pageable);
+
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId AND n.isRead = false ORDER BY n.createdDate DESC, n.id DESC")
+    Slice<Notification> findUnreadPageByUserId(@Param("userId") String userId, Pageable pageable);
+
+    // Keyset on (createdDate, id): rows sharing the cursor's timestamp are neither skipped nor repeated
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId " +
+            "AND (n.createdDate, n.id) < (:before, :beforeId) " +
+            "ORDER BY n.createdDate DESC, n.id DESC")
+    Slice<Notification> findPageByUserIdBefore(@Param("userId") String userId, @Param("before") LocalDateTime before,
+                                               @Param("beforeId") Long beforeId, Pageable pageable);
+
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId AND n.isRead = false " +
+            "AND (n.createdDate, n.id) < (:before, :beforeId) " +
+            "ORDER BY n.createdDate DESC, n.id DESC")
+    Slice<Notification> findUnreadPageByUserIdBefore(@Param("userId") String userId, @Param("before") LocalDateTime before,
+                                                     @Param("beforeId") Long beforeId, Pageable pageable);
+
     @Query("SELECT n FROM Notification n WHERE n.postId = :postId ORDER BY n.createdDate DESC")
     List<Notification> findByPostIdOrderByCreatedDateDesc(@Param("postId") Long postId);
 
@@ -26,4 +50,12 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Modifying
     @Query("UPDATE Notification n SET n.isRead = true WHERE n.userId = :userId")
     void markAllAsReadByUserId(@Param("userId") String userId);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM notifications WHERE id IN (" +
+            "SELECT id FROM notifications WHERE is_read = true AND created_date < :cutoff LIMIT :batchSize)",
+            nativeQuery = true)
+    @Override
+    int deleteReadNotificationsOlderThan(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
 }
\ No newline at end of file
@@ -2,10 +2,14 @@ package com.anas.postservice.notification;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -18,6 +22,12 @@ public class NotificationService {
     private final NotificationRepository notificationRepository;
     private final NotificationMapper notificationMapper;
 
+    @Value("${application.notifications.inbox.max-size:100}")
+    private int inboxMaxSize;
+
+    @Value("${application.notifications.inbox.max-page-size:50}")
+    private int maxPageSize;
+
     @Transactional
     public NotificationDTO createAndSendPostNotification(NotificationDTO notificationDTO) {
         // Persist notification
@@ -49,19 +59,47 @@ public class NotificationService {
     }
 
     public List<NotificationDTO> getUserNotifications(String userId) {
-        return notificationRepository.findByUserIdOrderByCreatedDateDesc(userId)
+        return notificationRepository.findPageByUserId(userId, PageRequest.of(0, inboxMaxSize))
                 .stream()
                 .map(notificationMapper::toDTO)
                 .toList();
     }
 
     public List<NotificationDTO> getUnreadUserNotifications(String userId) {
-        return notificationRepository.findByUserIdAndIsReadOrderByCreatedDateDesc(userId, false)
+        return notificationRepository.findUnreadPageByUserId(userId, PageRequest.of(0, inboxMaxSize))
                 .stream()
                 .map(notificationMapper::toDTO)
                 .toList();
     }
 
+    public NotificationPageResponse getUserNotificationsPage(String userId, LocalDateTime before, Long beforeId,
+                                                             boolean unreadOnly, int size) {
+        PageRequest pageRequest = PageRequest.of(0, Math.max(1, Math.min(size, maxPageSize)));
+        Slice<Notification> slice;
+        if (before == null) {
+            slice = unreadOnly
+                    ? notificationRepository.findUnreadPageByUserId(userId, pageRequest)
+                    : notificationRepository.findPageByUserId(userId, pageRequest);
+        } else {
+            // Without an id the cursor only admits strictly older rows, as before
+            long tieBreak = beforeId != null ? beforeId : 0L;
+            slice = unreadOnly
+                    ? notificationRepository.findUnreadPageByUserIdBefore(userId, before, tieBreak, pageRequest)
+                    : notificationRepository.findPageByUserIdBefore(userId, before, tieBreak, pageRequest);
+        }
+
+        List<NotificationDTO> content = slice.getContent()
+                .stream()
+                .map(notificationMapper::toDTO)
+                .toList();
+        NotificationDTO last = content.isEmpty() ? null : content.get(content.size() - 1);
+
+        return new NotificationPageResponse(content,
+                last != null ? last.getCreatedDate() : null,
+                last != null ? last.getId() : null,
+                slice.hasNext());
+    }
+
     public List<NotificationDTO> getPostNotifications(Long postId) {
         return notificationRepository.findByPostIdOrderByCreatedDateDesc(postId)
                 .stream()
@@ -1,5 +1,6 @@
 package com.anas.postservice.repository;
 
+import com.anas.postservice.dto.ReactionToggle;
 import com.anas.postservice.entities.Bookmark;
 import com.anas.postservice.entities.Post;
 import org.springframework.data.domain.Page;
@@ -7,6 +8,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -20,4 +22,32 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     
     @Query("SELECT COUNT(b) FROM Bookmark b WHERE b.post.id = :postId")
     Long countBookmarksByPostId(@Param("postId") Long postId);
-}
\ No newline at end of file
+
+    /**
+     * Removes the user's bookmark if present, otherwise adds it, and moves bookmark_count by the rows
+     * actually affected. A concurrent duplicate hits the unique index and changes nothing,
+     * leaving the reaction in place. Returns no row when the post does not exist.
+     */
+    @Transactional
+    @Query(value = "WITH removed AS (" +
+            "    DELETE FROM bookmarks WHERE post_id = :postId AND user_id = :userId RETURNING id" +
+            "), added AS (" +
+            "    INSERT INTO bookmarks (id, post_id, user_id, created_date)" +
+            "    SELECT nextval('bookmark_id_seq'), p.id, :userId, now() FROM posts p" +
+            "    WHERE p.id = :postId AND NOT EXISTS (SELECT 1 FROM removed)" +
+            "    ON CONFLICT (post_id, user_id) DO NOTHING" +
+            "    RETURNING id, created_date" +
+            "), counted AS (" +
+            "    UPDATE posts SET bookmark_count = GREATEST(COALESCE(bookmark_count, 0)" +
+            "        + (SELECT COUNT(*) FROM added) - (SELECT COUNT(*) FROM removed), 0)" +
+            "    WHERE id = :postId" +
+            "    RETURNING bookmark_count, author_id, content" +
+            ") " +
+            "SELECT NOT EXISTS (SELECT 1 FROM removed) AS \"active\", " +
+            "       (SELECT id FROM added) AS \"reactionId\", " +
+            "       (SELECT created_date FROM added) AS \"reactionDate\", " +
+            "       c.bookmark_count AS \"count\", c.author_id AS \"authorId\", c.content AS \"content\" " +
+            "FROM counted c",
+            nativeQuery = true)
+    Optional<ReactionToggle> toggle(@Param("postId") Long postId, @Param("userId") String userId);
+}
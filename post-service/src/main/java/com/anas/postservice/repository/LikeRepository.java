@@ -1,9 +1,11 @@
 package com.anas.postservice.repository;
 
+import com.anas.postservice.dto.ReactionToggle;
 import com.anas.postservice.entities.Like;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -14,4 +16,32 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
 
     @Query("SELECT COUNT(l) FROM Like l WHERE l.post.id = :postId")
     Long countByPostId(@Param("postId") Long postId);
-}
\ No newline at end of file
+
+    /**
+     * Removes the user's like if present, otherwise adds it, and moves like_count by the rows
+     * actually affected. A concurrent duplicate hits the unique index and changes nothing,
+     * leaving the reaction in place. Returns no row when the post does not exist.
+     */
+    @Transactional
+    @Query(value = "WITH removed AS (" +
+            "    DELETE FROM likes WHERE post_id = :postId AND user_id = :userId RETURNING id" +
+            "), added AS (" +
+            "    INSERT INTO likes (id, post_id, user_id, created_date)" +
+            "    SELECT nextval('like_id_seq'), p.id, :userId, now() FROM posts p" +
+            "    WHERE p.id = :postId AND NOT EXISTS (SELECT 1 FROM removed)" +
+            "    ON CONFLICT (post_id, user_id) DO NOTHING" +
+            "    RETURNING id, created_date" +
+            "), counted AS (" +
+            "    UPDATE posts SET like_count = GREATEST(COALESCE(like_count, 0)" +
+            "        + (SELECT COUNT(*) FROM added) - (SELECT COUNT(*) FROM removed), 0)" +
+            "    WHERE id = :postId" +
+            "    RETURNING like_count, author_id, content" +
+            ") " +
+            "SELECT NOT EXISTS (SELECT 1 FROM removed) AS \"active\", " +
+            "       (SELECT id FROM added) AS \"reactionId\", " +
+            "       (SELECT created_date FROM added) AS \"reactionDate\", " +
+            "       c.like_count AS \"count\", c.author_id AS \"authorId\", c.content AS \"content\" " +
+            "FROM counted c",
+            nativeQuery = true)
+    Optional<ReactionToggle> toggle(@Param("postId") Long postId, @Param("userId") String userId);
+}
@@ -9,6 +9,7 @@ import com.anas.postservice.enumeration.PostStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface PostService {
@@ -122,6 +123,22 @@ public interface PostService {
      */
     boolean isPostBookmarkedByUser(Long postId, String userId);
 
+    /**
+     * liked/bookmarked state of one user for a batch of posts, resolved with a single query
+     * @param postIds
+     * @param userId
+     * @return one entry per requested post, in request order
+     */
+    List<ViewerStateResponse> getViewerState(Collection<Long> postIds, String userId);
+
+    /**
+     * pair each post of a page with the current user's liked / bookmarked state
+     * @param posts
+     * @param userId
+     * @return the same page, one view per post
+     */
+    Page<PostView> withViewerState(Page<Post> posts, String userId);
+
     /**
      * get all marked posts
      * @param userId
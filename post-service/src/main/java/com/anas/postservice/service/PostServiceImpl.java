@@ -1,6 +1,6 @@
 package com.anas.postservice.service;
 
-import com.anas.postservice.client.UserServiceClient;
+import com.anas.postservice.client.ResilientUserServiceClient;
 import com.anas.postservice.dto.*;
 import com.anas.postservice.enumeration.PostStatus;
 import com.anas.postservice.exception.*;
@@ -11,10 +11,12 @@ import com.anas.postservice.file.FileService;
 import com.anas.postservice.notification.NotificationDTO;
 import com.anas.postservice.notification.NotificationService;
 import com.anas.postservice.repository.*;
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
@@ -23,6 +25,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.web.multipart.MultipartFile;
 import feign.FeignException;
 
@@ -42,9 +46,21 @@ public class PostServiceImpl implements PostService {
     // Removed VoteRepository
     // private final VoteRepository voteRepository;
     private final BookmarkRepository bookmarkRepository;
-    private final UserServiceClient userServiceClient;
+    private final ResilientUserServiceClient userServiceClient;
     private final FileService fileService;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Published inside the toggle transaction; the author is notified once it has committed
+    public record PostLikedEvent(Long postId, String authorId, String content, String likerId) {
+    }
+
+    public record PostBookmarkedEvent(Long postId, String authorId, String content, String bookmarkerId) {
+    }
+
+    // Files are removed only once the row is gone, so a rolled-back delete keeps its image
+    public record PostDeletedEvent(Long postId, String imageUrl) {
+    }
 
     public Page<Post> getAllPosts(Pageable pageable) {
         log.info("Fetching posts from database - page: {}, size: {}",
@@ -135,7 +151,7 @@ public class PostServiceImpl implements PostService {
             User author = null;
             try {
                 author = userServiceClient.getUserById(post.getAuthorId());
-            } catch (FeignException e) {
+            } catch (FeignException | UserServiceException e) {
                 // Log error but continue
                 System.err.println("Error fetching user information: " + e.getMessage());
             }
@@ -168,6 +184,9 @@ public class PostServiceImpl implements PostService {
         }
 
         postRepository.deleteById(postId);
+        if (post.getImageUrl() != null) {
+            eventPublisher.publishEvent(new PostDeletedEvent(postId, post.getImageUrl()));
+        }
     }
 
 
@@ -206,34 +225,25 @@ public class PostServiceImpl implements PostService {
     */
 
     @Transactional
+    @Timed(value = "post.like.toggle", histogram = true)
     public LikeResponse toggleLike(Long postId, String userId) {
-        User user = fetchAndValidateUser(userId);
-        Post post = postRepository.findById(postId)
+        // Single statement: delete-or-insert on the unique (post_id, user_id) index plus the counter update
+        ReactionToggle toggle = likeRepository.toggle(postId, userId)
                 .orElseThrow(() -> new PostNotFoundException(postId));
 
-        Optional<Like> existingLike = likeRepository.findByPostIdAndUserId(postId, userId);
-
-        if (existingLike.isPresent()) {
-            // Unlike - suppression seulement
-            Like like = existingLike.get();
-            likeRepository.delete(like);
-            post.setLikeCount(post.getLikeCount() - 1);
-            Post updatedPost = postRepository.save(post);
-            sendUnlikeNotification(updatedPost, user);
-
-            return new LikeResponse(null, false, "unliked", updatedPost.getLikeCount());
-        } else {
-            // Like - création seulement
-            Like like = new Like();
-            like.setPost(post);
-            like.setUserId(userId);
-            Like savedLike = likeRepository.save(like);
-            post.setLikeCount(post.getLikeCount() + 1);
-            Post updatedPost = postRepository.save(post);
-            sendLikeNotification(updatedPost, user);
+        if (!toggle.getActive()) {
+            return new LikeResponse(null, false, "unliked", toggle.getCount());
+        }
 
-            return new LikeResponse(savedLike, true, "liked", updatedPost.getLikeCount());
+        Like like = null;
+        if (toggle.getReactionId() != null) {
+            like = new Like();
+            like.setId(toggle.getReactionId());
+            like.setUserId(userId);
+            like.setCreatedDate(toggle.getReactionDate());
+            eventPublisher.publishEvent(new PostLikedEvent(postId, toggle.getAuthorId(), toggle.getContent(), userId));
         }
+        return new LikeResponse(like, true, "liked", toggle.getCount());
     }
 
     public boolean isPostLikedByUser(Long postId, String userId) {
@@ -279,38 +289,59 @@ public class PostServiceImpl implements PostService {
 
     @Transactional
     public BookmarkResult toggleBookmark(Long postId, String userId) {
-        User user = fetchAndValidateUser(userId);
-        Post post = postRepository.findById(postId)
+        ReactionToggle toggle = bookmarkRepository.toggle(postId, userId)
                 .orElseThrow(() -> new PostNotFoundException(postId));
 
-        Optional<Bookmark> existingBookmark = bookmarkRepository.findByPostIdAndUserId(postId, userId);
-
-        if (existingBookmark.isPresent()) {
-            // Remove bookmark
-            bookmarkRepository.delete(existingBookmark.get());
-            post.setBookmarkCount(post.getBookmarkCount() - 1);
-            postRepository.save(post);
-            sendBookmarkRemovedNotification(post, user);
+        if (!toggle.getActive()) {
+            return new BookmarkResult(null, false, toggle.getCount(), "removed");
+        }
 
-            return new BookmarkResult(null, false, post.getBookmarkCount(), "removed");
-        } else {
-            // Create bookmark
-            Bookmark bookmark = new Bookmark();
-            bookmark.setPost(post);
+        Bookmark bookmark = null;
+        if (toggle.getReactionId() != null) {
+            bookmark = new Bookmark();
+            bookmark.setId(toggle.getReactionId());
             bookmark.setUserId(userId);
-            Bookmark savedBookmark = bookmarkRepository.save(bookmark);
-            post.setBookmarkCount(post.getBookmarkCount() + 1);
-            postRepository.save(post);
-            sendNewBookmarkNotification(post, user);
-
-            return new BookmarkResult(savedBookmark, true, post.getBookmarkCount(), "added");
+            bookmark.setCreatedDate(toggle.getReactionDate());
+            eventPublisher.publishEvent(new PostBookmarkedEvent(postId, toggle.getAuthorId(), toggle.getContent(), userId));
         }
+        return new BookmarkResult(bookmark, true, toggle.getCount(), "added");
     }
 
     public boolean isPostBookmarkedByUser(Long postId, String userId) {
         return bookmarkRepository.findByPostIdAndUserId(postId, userId).isPresent();
     }
 
+    public List<ViewerStateResponse> getViewerState(Collection<Long> postIds, String userId) {
+        Map<Long, ViewerStateResponse> states = new LinkedHashMap<>();
+        postIds.forEach(postId -> states.putIfAbsent(postId, new ViewerStateResponse(postId, false, false)));
+        if (states.isEmpty()) {
+            return List.of();
+        }
+
+        for (ViewerReaction reaction : postRepository.findViewerReactions(states.keySet(), userId)) {
+            ViewerStateResponse state = states.get(reaction.getPostId());
+            if ("LIKE".equals(reaction.getKind())) {
+                state.setLiked(true);
+            } else {
+                state.setBookmarked(true);
+            }
+        }
+        return new ArrayList<>(states.values());
+    }
+
+    public Page<PostView> withViewerState(Page<Post> posts, String userId) {
+        if (posts.isEmpty()) {
+            return posts.map(post -> new PostView(post, false, false));
+        }
+        Map<Long, ViewerStateResponse> states = getViewerState(posts.map(Post::getId).getContent(), userId)
+                .stream()
+                .collect(Collectors.toMap(ViewerStateResponse::getPostId, state -> state));
+        return posts.map(post -> {
+            ViewerStateResponse state = states.get(post.getId());
+            return new PostView(post, state.isLiked(), state.isBookmarked());
+        });
+    }
+
     public Page<Post> getBookmarkedPostsByUser(String userId, Pageable pageable) {
         return bookmarkRepository.findBookmarkedPostsByUserId(userId, pageable);
     }
@@ -481,52 +512,54 @@ public class PostServiceImpl implements PostService {
         }
     }
 
-    private void sendLikeNotification(Post post, User liker) {
+    // After commit, so the user lookup and the push no longer run under the posts row lock
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void sendLikeNotification(PostLikedEvent event) {
         try {
+            User liker = fetchAndValidateUser(event.likerId());
             NotificationDTO notification = new NotificationDTO();
             notification.setType("POST_LIKED");
-            notification.setPostId(post.getId());
-            notification.setPostContent(post.getContent().length() > 100 ?
-                post.getContent().substring(0, 100) + "..." : post.getContent());
+            notification.setPostId(event.postId());
+            notification.setPostContent(event.content().length() > 100 ?
+                event.content().substring(0, 100) + "..." : event.content());
             notification.setMessage(liker.getFullName() + " liked your post");
-            notification.setUserId(post.getAuthorId());
+            notification.setUserId(event.authorId());
             notification.setUserName(liker.getFullName());
-            notification.setRelatedEntityId(post.getId());
+            notification.setRelatedEntityId(event.postId());
             notification.setRelatedEntityType("POST");
 
-            notificationService.sendUserNotification(post.getAuthorId(), notification);
+            notificationService.sendUserNotification(event.authorId(), notification);
         } catch (Exception e) {
             System.err.println("Error sending like notification: " + e.getMessage());
         }
     }
 
-    private void sendUnlikeNotification(Post post, User unliker) {
-        // Unlike notifications are typically not sent
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void deletePostFiles(PostDeletedEvent event) {
+        fileService.deletePostImage(event.postId(), event.imageUrl());
     }
 
-    private void sendNewBookmarkNotification(Post post, User bookmarker) {
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void sendNewBookmarkNotification(PostBookmarkedEvent event) {
         try {
+            User bookmarker = fetchAndValidateUser(event.bookmarkerId());
             NotificationDTO notification = new NotificationDTO();
             notification.setType("POST_BOOKMARKED");
-            notification.setPostId(post.getId());
-            notification.setPostContent(post.getContent().length() > 100 ?
-                post.getContent().substring(0, 100) + "..." : post.getContent());
+            notification.setPostId(event.postId());
+            notification.setPostContent(event.content().length() > 100 ?
+                event.content().substring(0, 100) + "..." : event.content());
             notification.setMessage(bookmarker.getFullName() + " bookmarked your post");
-            notification.setUserId(post.getAuthorId());
+            notification.setUserId(event.authorId());
             notification.setUserName(bookmarker.getFullName());
-            notification.setRelatedEntityId(post.getId());
+            notification.setRelatedEntityId(event.postId());
             notification.setRelatedEntityType("POST");
 
-            notificationService.sendUserNotification(post.getAuthorId(), notification);
+            notificationService.sendUserNotification(event.authorId(), notification);
         } catch (Exception e) {
             System.err.println("Error sending bookmark notification: " + e.getMessage());
         }
     }
 
-    private void sendBookmarkRemovedNotification(Post post, User bookmarker) {
-        // Bookmark removal notifications are typically not sent
-    }
-
     private void sendNewCommentNotification(Post post, Comment comment, User commenter) {
         try {
             NotificationDTO notification = new NotificationDTO();
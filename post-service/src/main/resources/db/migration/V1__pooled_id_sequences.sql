@@ -0,0 +1,18 @@
+-- Ids are now allocated in blocks of 50 by Hibernate's pooled optimizer, so every
+-- sequence has to advance by the same step. On an empty database nothing exists yet
+-- and Hibernate creates the sequences with the right increment itself.
+
+ALTER SEQUENCE IF EXISTS post_id_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS comment_id_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS like_id_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS bookmark_id_seq INCREMENT BY 50;
+
+-- notifications used an identity column: move it onto a pooled sequence
+DO $$
+BEGIN
+    IF to_regclass('notifications') IS NOT NULL THEN
+        CREATE SEQUENCE IF NOT EXISTS notification_id_seq INCREMENT BY 50;
+        PERFORM setval('notification_id_seq', COALESCE((SELECT MAX(id) FROM notifications), 0) + 1);
+        ALTER TABLE notifications ALTER COLUMN id DROP IDENTITY IF EXISTS;
+    END IF;
+END $$;
@@ -0,0 +1,120 @@
+-- Baseline schema, previously maintained by ddl-auto: update. Every statement is
+-- guarded so databases that Hibernate already created are left as they are and
+-- only gain the missing indexes.
+
+CREATE SEQUENCE IF NOT EXISTS post_id_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS comment_id_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS like_id_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS bookmark_id_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS notification_id_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS posts (
+    id                 BIGINT NOT NULL PRIMARY KEY,
+    content            TEXT,
+    image_url          VARCHAR(255),
+    status             VARCHAR(255),
+    author_id          VARCHAR(255),
+    like_count         BIGINT,
+    comment_count      BIGINT,
+    bookmark_count     BIGINT,
+    pinned             BOOLEAN NOT NULL,
+    created_date       TIMESTAMP(6) NOT NULL,
+    last_modified_date TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS comments (
+    id                 BIGINT NOT NULL PRIMARY KEY,
+    content            TEXT,
+    author_id          VARCHAR(255),
+    post_id            BIGINT NOT NULL,
+    parent_comment_id  BIGINT,
+    approved           BOOLEAN NOT NULL,
+    created_date       TIMESTAMP(6) NOT NULL,
+    last_modified_date TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS likes (
+    id                 BIGINT NOT NULL PRIMARY KEY,
+    post_id            BIGINT NOT NULL,
+    user_id            VARCHAR(255),
+    created_date       TIMESTAMP(6) NOT NULL,
+    last_modified_date TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS bookmarks (
+    id                 BIGINT NOT NULL PRIMARY KEY,
+    post_id            BIGINT NOT NULL,
+    user_id            VARCHAR(255),
+    created_date       TIMESTAMP(6) NOT NULL,
+    last_modified_date TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS notifications (
+    id                  BIGINT NOT NULL PRIMARY KEY,
+    type                VARCHAR(255) NOT NULL,
+    post_id             BIGINT,
+    post_content        VARCHAR(255),
+    message             TEXT,
+    user_id             VARCHAR(255),
+    user_name           VARCHAR(255),
+    is_read             BOOLEAN,
+    related_entity_id   BIGINT,
+    related_entity_type VARCHAR(255),
+    created_date        TIMESTAMP(6) NOT NULL,
+    last_modified_date  TIMESTAMP(6)
+);
+
+DO $$
+DECLARE
+    fk RECORD;
+BEGIN
+    FOR fk IN
+        SELECT * FROM (VALUES
+            ('comments', 'post_id', 'posts', 'fk_comments_post'),
+            ('comments', 'parent_comment_id', 'comments', 'fk_comments_parent'),
+            ('likes', 'post_id', 'posts', 'fk_likes_post'),
+            ('bookmarks', 'post_id', 'posts', 'fk_bookmarks_post')
+        ) AS v(table_name, column_name, referenced_table, constraint_name)
+    LOOP
+        IF NOT EXISTS (
+            SELECT 1
+            FROM pg_constraint c
+            JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+            WHERE c.contype = 'f'
+              AND c.conrelid = fk.table_name::regclass
+              AND a.attname = fk.column_name
+        ) THEN
+            EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I FOREIGN KEY (%I) REFERENCES %I (id)',
+                           fk.table_name, fk.constraint_name, fk.column_name, fk.referenced_table);
+        END IF;
+    END LOOP;
+END $$;
+
+-- PostRepository.findAllOrderByCreatedDateDesc
+CREATE INDEX IF NOT EXISTS idx_posts_created ON posts (created_date);
+-- PostRepository.findPostsByAuthorId / findPendingPostsByAuthorId
+CREATE INDEX IF NOT EXISTS idx_posts_author_created ON posts (author_id, created_date);
+-- PostRepository.findPendingPosts
+CREATE INDEX IF NOT EXISTS idx_posts_status_created ON posts (status, created_date);
+-- PostRepository.findTrendingPosts
+CREATE INDEX IF NOT EXISTS idx_posts_status_trending ON posts (status, like_count DESC, comment_count DESC, created_date DESC);
+
+-- CommentRepository approved / root comment pages and counts
+CREATE INDEX IF NOT EXISTS idx_comments_post_approved_created ON comments (post_id, approved, created_date);
+-- CommentRepository.findRepliesByParentCommentId
+CREATE INDEX IF NOT EXISTS idx_comments_parent_created ON comments (parent_comment_id, created_date);
+
+-- LikeRepository.findByPostIdAndUserId / countByPostId
+CREATE INDEX IF NOT EXISTS idx_likes_post_user ON likes (post_id, user_id);
+
+-- BookmarkRepository.findByPostIdAndUserId / countBookmarksByPostId
+CREATE INDEX IF NOT EXISTS idx_bookmarks_post_user ON bookmarks (post_id, user_id);
+-- BookmarkRepository.findBookmarkedPostsByUserId
+CREATE INDEX IF NOT EXISTS idx_bookmarks_user_created ON bookmarks (user_id, created_date);
+
+-- NotificationRepository inbox, unread count and mark-all-read
+CREATE INDEX IF NOT EXISTS idx_notifications_user_read_created ON notifications (user_id, is_read, created_date);
+-- NotificationRepository.findByPostIdOrderByCreatedDateDesc
+CREATE INDEX IF NOT EXISTS idx_notifications_post_created ON notifications (post_id, created_date);
+-- NotificationRetentionJob
+CREATE INDEX IF NOT EXISTS idx_notifications_read_created ON notifications (is_read, created_date);
@@ -0,0 +1,24 @@
+-- A user can like or bookmark a post at most once. Remove the duplicates left by
+-- double clicks and retries, resync the counters they inflated, then enforce it.
+
+DELETE FROM likes l
+USING likes keep
+WHERE l.post_id = keep.post_id
+  AND l.user_id = keep.user_id
+  AND l.id > keep.id;
+
+DELETE FROM bookmarks b
+USING bookmarks keep
+WHERE b.post_id = keep.post_id
+  AND b.user_id = keep.user_id
+  AND b.id > keep.id;
+
+UPDATE posts p
+SET like_count     = (SELECT COUNT(*) FROM likes l WHERE l.post_id = p.id),
+    bookmark_count = (SELECT COUNT(*) FROM bookmarks b WHERE b.post_id = p.id);
+
+DROP INDEX IF EXISTS idx_likes_post_user;
+DROP INDEX IF EXISTS idx_bookmarks_post_user;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_likes_post_user ON likes (post_id, user_id);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_bookmarks_post_user ON bookmarks (post_id, user_id);
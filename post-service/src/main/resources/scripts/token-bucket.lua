@@ -0,0 +1,41 @@
+-- Token bucket shared by every post-service instance.
+-- Mirrored in gitway-service/src/main/resources/scripts/token-bucket.lua. The two services
+-- build separately, so change both copies together; only this header differs.
+-- KEYS[1]  bucket key
+-- ARGV[1]  capacity (tokens)
+-- ARGV[2]  refill period in milliseconds (time to refill a full bucket)
+-- ARGV[3]  cost of this request (tokens)
+-- Returns { allowed (1/0), remaining tokens, milliseconds until the request would be allowed }
+local capacity = tonumber(ARGV[1])
+local refill_period = tonumber(ARGV[2])
+local cost = tonumber(ARGV[3])
+local rate = capacity / refill_period
+
+-- Server time, so that instance clocks do not matter
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(bucket[1])
+local ts = tonumber(bucket[2])
+if tokens == nil or ts == nil then
+    tokens = capacity
+    ts = now
+end
+
+tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+
+local allowed = 0
+local wait = 0
+if tokens >= cost then
+    tokens = tokens - cost
+    allowed = 1
+else
+    wait = math.ceil((cost - tokens) / rate)
+end
+
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+-- An idle bucket is full again after one refill period, so it can simply expire then
+redis.call('PEXPIRE', KEYS[1], refill_period)
+
+return { allowed, math.floor(tokens), wait }
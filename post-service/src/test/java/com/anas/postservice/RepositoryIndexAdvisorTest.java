@@ -0,0 +1,25 @@
+package com.anas.postservice;
+
+import com.anas.common.testing.RepositoryIndexAdvisor;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Fails the build when a repository query filters on columns that no index declared in
+ * {@code db/migration} can serve; see {@link RepositoryIndexAdvisor}.
+ */
+class RepositoryIndexAdvisorTest {
+
+    // Queries that cannot use a B-tree index by design, with the reason
+    private static final Map<String, String> EXEMPT = Map.of();
+
+    @Test
+    void everyRepositoryQueryHasAnIndex() throws Exception {
+        List<String> missing = new RepositoryIndexAdvisor("com.anas.postservice", EXEMPT).unindexedQueries();
+        assertTrue(missing.isEmpty(), "Repository queries without a usable index:\n  " + String.join("\n  ", missing));
+    }
+}
@@ -0,0 +1,34 @@
+#!/usr/bin/env bash
+# Compares two JMH JSON result files and fails when a benchmark got slower than allowed.
+#
+#   scripts/jmh-compare.sh <baseline.json> <current.json> [max-regression-percent]
+#
+# e.g. scripts/jmh-compare.sh jmh-baseline.json benchmarks/target/jmh-result.json 10
+#
+# Benchmarks are matched by name and parameters; ones present in only one file are skipped.
+# For average-time results a higher score is a regression, for throughput a lower one. Exits
+# with status 1 when any benchmark regressed by more than the threshold (default 10%).
+set -euo pipefail
+
+baseline=${1:?usage: $0 <baseline.json> <current.json> [max-regression-percent]}
+current=${2:?usage: $0 <baseline.json> <current.json> [max-regression-percent]}
+threshold=${3:-10}
+
+jq -r -n --slurpfile base "$baseline" --slurpfile cur "$current" '
+  def key: .benchmark + (if .params then " " + (.params | to_entries | map("\(.key)=\(.value)") | join(",")) else "" end);
+  ($base[0] | map({key: key, value: .primaryMetric.score}) | from_entries) as $scores
+  | $cur[0][]
+  | key as $k
+  | select($scores[$k] != null)
+  | ((.primaryMetric.score / $scores[$k] - 1) * 100 * (if .mode == "thrpt" then -1 else 1 end)) as $change
+  | [$k, $scores[$k], .primaryMetric.score, .primaryMetric.scoreUnit, $change]
+  | @tsv' \
+  | awk -F '\t' -v max="$threshold" '
+    {
+      flag = ($5 > max) ? "REGRESSED" : ""
+      if (flag != "") failed++
+      printf "%-70s %12.3f -> %12.3f %-6s %+7.1f%% %s\n", $1, $2, $3, $4, $5, flag
+    }
+    END {
+      if (failed) { printf "%d benchmark(s) regressed by more than %s%%\n", failed, max; exit 1 }
+    }'
@@ -0,0 +1,42 @@
+#!/usr/bin/env bash
+# Compares bytes on the wire and latency for one gateway endpoint across transport settings.
+#
+#   scripts/transport-benchmark.sh <url> [requests] [bearer-token]
+#
+# e.g. scripts/transport-benchmark.sh "http://localhost:7777/api/v1/posts/feed?page=0&size=50" 500 "$TOKEN"
+#
+# Each mode sends the requests one after another on a fresh connection and reports the average
+# response size as transferred (compressed when the gateway compressed it) and p50/p99 of the
+# total request time.
+set -euo pipefail
+
+url=${1:?usage: $0 <url> [requests] [bearer-token]}
+requests=${2:-200}
+token=${3:-}
+
+auth=()
+if [[ -n "$token" ]]; then
+  auth=(-H "Authorization: Bearer $token")
+fi
+
+run() {
+  local label=$1
+  shift
+  local samples
+  samples=$(for _ in $(seq "$requests"); do
+    curl -s -o /dev/null ${auth[@]+"${auth[@]}"} "$@" -w '%{size_download} %{time_total}\n' "$url"
+  done)
+  echo "$samples" | sort -k2 -n | awk -v label="$label" '
+    { bytes += $1; times[NR] = $2 }
+    END {
+      p50 = times[int(NR * 0.50) > 0 ? int(NR * 0.50) : 1]
+      p99 = times[int(NR * 0.99) > 0 ? int(NR * 0.99) : 1]
+      printf "%-22s %10.0f bytes %9.2f ms p50 %9.2f ms p99\n", label, bytes / NR, p50 * 1000, p99 * 1000
+    }'
+}
+
+echo "$requests requests to $url"
+run "http/1.1 identity" --http1.1 -H 'Accept-Encoding: identity'
+run "http/1.1 gzip" --http1.1 -H 'Accept-Encoding: gzip'
+run "http/1.1 br" --http1.1 -H 'Accept-Encoding: br'
+run "h2c br" --http2-prior-knowledge -H 'Accept-Encoding: br'
@@ -0,0 +1,36 @@
+package com.anas.common.file;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Registers {@link ImageVariantService} and the bounded pool it generates variants on.
+ */
+@Configuration
+@Import(ImageVariantService.class)
+public class ImageVariantConfig {
+
+    @Value("${application.file.variants.pool-size:2}")
+    private int poolSize;
+
+    @Value("${application.file.variants.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Bean(name = "imageVariantExecutor")
+    public Executor imageVariantExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-variant-");
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,233 @@
+package com.anas.common.file;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Generates downscaled JPEG variants of uploaded images on a bounded worker pool. A variant
+ * is stored next to its original as {@code <name>_<size>.jpg}; until it has been written,
+ * {@link #resolve(Path, Size)} falls back to the original. Images are measured from their
+ * header before anything is decoded: those above {@code max-pixels} get no variants, and the
+ * rest are decoded subsampled, at no more than twice the width of the largest variant.
+ *
+ * <p>Services register it, with its executor, by importing {@link ImageVariantConfig}.
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    public enum Size {
+        SMALL(200),
+        MEDIUM(800);
+
+        private final int maxWidth;
+
+        Size(int maxWidth) {
+            this.maxWidth = maxWidth;
+        }
+
+        /**
+         * @return the size named by a request parameter, or null for the original
+         */
+        public static Size from(String value) {
+            if (value == null || value.isBlank() || value.equalsIgnoreCase("original")) {
+                return null;
+            }
+            try {
+                return Size.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown image size: " + value);
+            }
+        }
+    }
+
+    private static final Set<String> IMAGE_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif", "bmp");
+
+    private final Executor imageVariantExecutor;
+
+    @Value("${application.file.variants.jpeg-quality:0.8}")
+    private float jpegQuality;
+
+    @Value("${application.file.variants.max-pixels:40000000}")
+    private long maxPixels;
+
+    public ImageVariantService(@Qualifier("imageVariantExecutor") Executor imageVariantExecutor) {
+        this.imageVariantExecutor = imageVariantExecutor;
+    }
+
+    public void generateVariantsAsync(String originalPath) {
+        if (originalPath == null || !IMAGE_EXTENSIONS.contains(getFileExtension(originalPath))) {
+            return;
+        }
+        try {
+            imageVariantExecutor.execute(() -> generateVariants(Paths.get(originalPath)));
+        } catch (RejectedExecutionException e) {
+            // Originals are still served; the variants are only an optimization
+            log.warn("Image variant queue is full, skipping " + originalPath);
+        }
+    }
+
+    public Path resolve(Path original, Size size) {
+        if (size == null) {
+            return original;
+        }
+        Path variant = variantPath(original, size);
+        return Files.exists(variant) ? variant : original;
+    }
+
+    /**
+     * Deletes the variants of an original; callers delete the original itself.
+     */
+    public void deleteVariants(Path original) throws IOException {
+        for (Size size : Size.values()) {
+            Files.deleteIfExists(variantPath(original, size));
+        }
+    }
+
+    private void generateVariants(Path original) {
+        try {
+            BufferedImage source = read(original);
+            if (source == null) {
+                return;
+            }
+            for (Size size : Size.values()) {
+                // Images that are already small enough are served as they are
+                if (source.getWidth() > size.maxWidth) {
+                    writeJpeg(scale(source, size.maxWidth), variantPath(original, size));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Image variants were not generated for " + original, e);
+        }
+    }
+
+    /**
+     * @return the image, decoded just large enough for its variants, or null if it needs none
+     *         or cannot be decoded safely
+     */
+    private BufferedImage read(Path original) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    log.warn("Image variants were not generated for " + original + ": "
+                            + width + "x" + height + " exceeds " + maxPixels + " pixels");
+                    return null;
+                }
+
+                int largestVariant = 0;
+                for (Size size : Size.values()) {
+                    if (width > size.maxWidth) {
+                        largestVariant = Math.max(largestVariant, size.maxWidth);
+                    }
+                }
+                if (largestVariant == 0) {
+                    return null;
+                }
+
+                // Subsampling drops pixels without filtering, so keep at least twice the width of
+                // the largest variant and let scale() do the final, smoothed halving steps
+                int step = Math.max(1, width / (2 * largestVariant));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static Path variantPath(Path original, Size size) {
+        String fileName = original.getFileName().toString();
+        int lastDotIndex = fileName.lastIndexOf('.');
+        String baseName = lastDotIndex > 0 ? fileName.substring(0, lastDotIndex) : fileName;
+        return original.resolveSibling(baseName + "_" + size.name().toLowerCase(Locale.ROOT) + ".jpg");
+    }
+
+    private static BufferedImage scale(BufferedImage source, int targetWidth) {
+        // Halve step by step first: a single bilinear pass from a large original aliases badly
+        BufferedImage current = source;
+        while (current.getWidth() / 2 >= targetWidth) {
+            current = resize(current, current.getWidth() / 2);
+        }
+        return resize(current, targetWidth);
+    }
+
+    private static BufferedImage resize(BufferedImage source, int width) {
+        int height = Math.max(1, Math.round((float) source.getHeight() * width / source.getWidth()));
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            // JPEG has no alpha channel
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(jpegQuality);
+
+        // Write to a temporary file first so that readers never see a partial variant
+        Path temporary = Files.createTempFile(target.getParent(), "variant-", ".tmp");
+        try {
+            try (ImageOutputStream output = ImageIO.createImageOutputStream(temporary.toFile())) {
+                writer.setOutput(output);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static String getFileExtension(String fileName) {
+        int lastDotIndex = fileName.lastIndexOf('.');
+        if (lastDotIndex == -1) {
+            return "";
+        }
+        return fileName.substring(lastDotIndex + 1).toLowerCase(Locale.ROOT);
+    }
+}
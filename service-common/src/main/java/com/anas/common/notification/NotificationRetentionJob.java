@@ -0,0 +1,41 @@
+package com.anas.common.notification;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Deletes read notifications older than the retention window, in small batches
+ * so that each delete runs in its own short transaction. Services register it with
+ * {@code @Import} and provide the delete through their {@link ReadNotificationStore}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationRetentionJob {
+
+    private final ReadNotificationStore readNotificationStore;
+
+    @Value("${application.notifications.retention.read-days:30}")
+    private int readRetentionDays;
+
+    @Value("${application.notifications.retention.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(cron = "${application.notifications.retention.cron:0 0 3 * * *}")
+    public void purgeReadNotifications() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(readRetentionDays);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = readNotificationStore.deleteReadNotificationsOlderThan(cutoff, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+
+        log.info("Notification retention: deleted {} read notifications older than {}", total, cutoff);
+    }
+}
@@ -0,0 +1,17 @@
+package com.anas.common.notification;
+
+import java.time.LocalDateTime;
+
+/**
+ * Implemented by each service's notification repository, which owns the delete query for
+ * its own notifications table.
+ */
+public interface ReadNotificationStore {
+
+    /**
+     * Deletes up to {@code batchSize} read notifications created before {@code cutoff}.
+     *
+     * @return the number of notifications deleted
+     */
+    int deleteReadNotificationsOlderThan(LocalDateTime cutoff, int batchSize);
+}
@@ -0,0 +1,105 @@
+package com.anas.common.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jwt.JWT;
+import com.nimbusds.jwt.JWTParser;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.MappedJwtClaimSetConverter;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Accepts a bearer token without checking its RSA signature when the request also carries an
+ * {@value #HEADER} header signed by the gateway for that exact token. Every other request,
+ * including calls that bypass the gateway, goes through the regular JWKS-backed decoder.
+ */
+public class InternalIdentityJwtDecoder implements JwtDecoder {
+
+    public static final String HEADER = "X-Internal-Identity";
+
+    private final JwtDecoder delegate;
+    private final SecretKeySpec key;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Converter<Map<String, Object>, Map<String, Object>> claimSetConverter =
+            MappedJwtClaimSetConverter.withDefaults(Collections.emptyMap());
+
+    public InternalIdentityJwtDecoder(JwtDecoder delegate, String secret) {
+        this.delegate = delegate;
+        this.key = secret == null || secret.isBlank()
+                ? null
+                : new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String identity = currentIdentity();
+        if (key != null && identity != null && isVouchedFor(identity, token)) {
+            return parse(token);
+        }
+        return delegate.decode(token);
+    }
+
+    private static String currentIdentity() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest().getHeader(HEADER);
+        }
+        return null;
+    }
+
+    private boolean isVouchedFor(String identity, String token) {
+        int dot = identity.indexOf('.');
+        if (dot < 0) {
+            return false;
+        }
+        try {
+            String payload = identity.substring(0, dot);
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(key);
+            byte[] expected = mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+            byte[] actual = Base64.getUrlDecoder().decode(identity.substring(dot + 1));
+            if (!MessageDigest.isEqual(expected, actual)) {
+                return false;
+            }
+
+            JsonNode claims = objectMapper.readTree(Base64.getUrlDecoder().decode(payload));
+            byte[] tokenHash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return claims.path("exp").asLong() > Instant.now().getEpochSecond()
+                    && HexFormat.of().formatHex(tokenHash).equals(claims.path("th").asText());
+        } catch (GeneralSecurityException | IllegalArgumentException | IOException e) {
+            return false;
+        }
+    }
+
+    private Jwt parse(String token) {
+        try {
+            JWT jwt = JWTParser.parse(token);
+            Map<String, Object> headers = new LinkedHashMap<>(jwt.getHeader().toJSONObject());
+            Map<String, Object> claims = claimSetConverter.convert(jwt.getJWTClaimsSet().getClaims());
+            return Jwt.withTokenValue(token)
+                    .headers(h -> h.putAll(headers))
+                    .claims(c -> c.putAll(claims))
+                    .build();
+        } catch (ParseException e) {
+            throw new BadJwtException("Malformed token", e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.anas.common.websocket;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Records every frame written to a WebSocket client as {@code websocket.messages.sent}, with
+ * the payload size in bytes; the summary's count is the number of frames sent. One summary
+ * per message type is registered up front, so sending a frame does no meter lookup.
+ */
+public class OutboundMessageMetrics implements ChannelInterceptor {
+
+    private final Map<SimpMessageType, DistributionSummary> summaries = new EnumMap<>(SimpMessageType.class);
+
+    public OutboundMessageMetrics(MeterRegistry meterRegistry) {
+        for (SimpMessageType type : SimpMessageType.values()) {
+            summaries.put(type, DistributionSummary.builder("websocket.messages.sent")
+                    .baseUnit("bytes")
+                    .tag("type", type.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        int size = message.getPayload() instanceof byte[] payload ? payload.length : 0;
+        summaries.get(type != null ? type : SimpMessageType.OTHER).record(size);
+        return message;
+    }
+}
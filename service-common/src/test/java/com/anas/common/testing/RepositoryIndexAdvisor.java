@@ -0,0 +1,412 @@
+package com.anas.common.testing;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.NamedQuery;
+import jakarta.persistence.Table;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Finds repository queries that filter on columns no index declared in {@code db/migration}
+ * can serve. An index serves a query when it is on the table the query reads and its leading
+ * column is one of the columns the query filters that table on (or sorts it by, for unfiltered
+ * pages); OR-ed predicates need an index for every column. When the query only filters joined
+ * tables, each of those has to be served instead. Queries that cannot use a B-tree index by
+ * design are passed in as exemptions, keyed by {@code Repository.method}, with the reason.
+ *
+ * <p>Each service runs it from its own {@code RepositoryIndexAdvisorTest}, against the
+ * migrations and repositories on that service's test classpath.
+ */
+public class RepositoryIndexAdvisor {
+
+    private static final Set<Part.Type> INDEXABLE_PARTS = EnumSet.of(
+            Part.Type.SIMPLE_PROPERTY, Part.Type.BEFORE, Part.Type.AFTER, Part.Type.LESS_THAN,
+            Part.Type.LESS_THAN_EQUAL, Part.Type.GREATER_THAN, Part.Type.GREATER_THAN_EQUAL,
+            Part.Type.BETWEEN, Part.Type.IS_NULL, Part.Type.TRUE, Part.Type.FALSE, Part.Type.IN
+    );
+
+    private static final Set<String> KEYWORDS = Set.of("set", "where", "join", "left", "inner", "order", "group", "limit");
+
+    private static final Pattern CREATE_INDEX = Pattern.compile(
+            "create\\s+(?:unique\\s+)?index\\s+(?:if\\s+not\\s+exists\\s+)?\\w+\\s+on\\s+(\\w+)\\s*(?:using\\s+\\w+\\s*)?\\(\\s*([^,)\\s]+)",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern ADD_KEY = Pattern.compile(
+            "alter\\s+table\\s+(?:if\\s+exists\\s+)?(?:only\\s+)?(\\w+)\\s+add\\s+constraint\\s+\\w+\\s+(?:unique|primary\\s+key)\\s*\\(\\s*(\\w+)",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern CREATE_TABLE = Pattern.compile(
+            "create\\s+table\\s+(?:if\\s+not\\s+exists\\s+)?(\\w+)\\s*\\((.*?)\\);",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern TABLE_KEY = Pattern.compile(
+            "(?:primary\\s+key|unique)\\s*\\(\\s*(\\w+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern INLINE_PRIMARY_KEY = Pattern.compile(
+            "^\\s*(\\w+)\\s+[^,\\n]*primary\\s+key", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE);
+
+    private static final Pattern FROM_ENTITY = Pattern.compile(
+            "\\b(?:from|update|into)\\s+(\\w+)(?:\\s+(?:as\\s+)?(\\w+))?", Pattern.CASE_INSENSITIVE);
+    private static final Pattern JOIN_PATH = Pattern.compile(
+            "\\bjoin\\s+(?:fetch\\s+)?(\\w+)\\.(\\w+)\\s+(?:as\\s+)?(\\w+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern PREDICATE = Pattern.compile(
+            "(?<![:\\w.'])([a-zA-Z_][\\w.]*)\\b\\s*(<>|!=|<=|>=|=|<|>|is\\s+not\\s+null|is\\s+null|in\\s*\\(\\s*select|in\\b|like)",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern ORDER_BY = Pattern.compile(
+            "\\border\\s+by\\s+([a-zA-Z_][\\w.]*)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern SET_CLAUSE = Pattern.compile(
+            "\\bset\\b.*?(?=\\bwhere\\b|$)", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern DISJUNCTION = Pattern.compile("\\bor\\b", Pattern.CASE_INSENSITIVE);
+
+    private final String basePackage;
+    private final Map<String, String> exempt;
+
+    /**
+     * @param basePackage the package scanned for entities and repositories
+     * @param exempt      reasons keyed by {@code Repository.method}, for queries that need no index
+     */
+    public RepositoryIndexAdvisor(String basePackage, Map<String, String> exempt) {
+        this.basePackage = basePackage;
+        this.exempt = exempt;
+    }
+
+    /**
+     * @return the queries without a usable index, with the columns they filter and sort on
+     */
+    public List<String> unindexedQueries() throws Exception {
+        Map<String, Set<String>> leadingColumns = indexedLeadingColumns();
+        Map<String, Class<?>> entities = entities();
+
+        List<String> missing = new ArrayList<>();
+        for (Class<?> repository : repositories()) {
+            Class<?> domainType = new DefaultRepositoryMetadata(repository).getDomainType();
+            for (Method method : repository.getDeclaredMethods()) {
+                if (method.isDefault() || method.isSynthetic() || Modifier.isStatic(method.getModifiers())) {
+                    continue;
+                }
+                String key = repository.getSimpleName() + "." + method.getName();
+                if (exempt.containsKey(key)) {
+                    continue;
+                }
+                QueryShape shape = shapeOf(method, domainType, entities);
+                if (!shape.isCoveredBy(leadingColumns)) {
+                    missing.add(key + " filters " + shape.filters + " ordered by " + shape.orderBy);
+                }
+            }
+        }
+
+        return missing;
+    }
+
+    private Map<String, Set<String>> indexedLeadingColumns() throws Exception {
+        Map<String, Set<String>> leading = new HashMap<>();
+        Resource[] migrations = new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/*.sql");
+        for (Resource migration : migrations) {
+            String sql = migration.getContentAsString(StandardCharsets.UTF_8).replaceAll("--[^\\n]*", "");
+
+            Matcher index = CREATE_INDEX.matcher(sql);
+            while (index.find()) {
+                addLeading(leading, index.group(1), index.group(2));
+            }
+            Matcher key = ADD_KEY.matcher(sql);
+            while (key.find()) {
+                addLeading(leading, key.group(1), key.group(2));
+            }
+            Matcher table = CREATE_TABLE.matcher(sql);
+            while (table.find()) {
+                Matcher tableKey = TABLE_KEY.matcher(table.group(2));
+                while (tableKey.find()) {
+                    addLeading(leading, table.group(1), tableKey.group(1));
+                }
+                Matcher primaryKey = INLINE_PRIMARY_KEY.matcher(table.group(2));
+                while (primaryKey.find()) {
+                    addLeading(leading, table.group(1), primaryKey.group(1));
+                }
+            }
+        }
+        return leading;
+    }
+
+    private void addLeading(Map<String, Set<String>> leading, String table, String column) {
+        leading.computeIfAbsent(table.toLowerCase(Locale.ROOT), t -> new HashSet<>())
+                .add(column.replaceAll("[\"()]", "").toLowerCase(Locale.ROOT));
+    }
+
+    private Map<String, Class<?>> entities() throws ClassNotFoundException {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+        Map<String, Class<?>> entities = new HashMap<>();
+        for (BeanDefinition definition : scanner.findCandidateComponents(basePackage)) {
+            Class<?> type = Class.forName(definition.getBeanClassName());
+            String name = type.getAnnotation(Entity.class).name();
+            entities.put(name.isEmpty() ? type.getSimpleName() : name, type);
+        }
+        return entities;
+    }
+
+    private List<Class<?>> repositories() throws ClassNotFoundException {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition definition) {
+                return definition.getMetadata().isInterface();
+            }
+        };
+        scanner.addIncludeFilter(new AssignableTypeFilter(Repository.class));
+        List<Class<?>> repositories = new ArrayList<>();
+        for (BeanDefinition definition : scanner.findCandidateComponents(basePackage)) {
+            repositories.add(Class.forName(definition.getBeanClassName()));
+        }
+        return repositories;
+    }
+
+    private QueryShape shapeOf(Method method, Class<?> domainType, Map<String, Class<?>> entities) {
+        Query query = method.getAnnotation(Query.class);
+        if (query != null && !query.name().isEmpty()) {
+            return jpqlShape(namedQuery(query.name(), entities), domainType, entities);
+        }
+        if (query != null && !query.value().isEmpty()) {
+            return query.nativeQuery()
+                    ? nativeShape(query.value())
+                    : jpqlShape(query.value(), domainType, entities);
+        }
+        return derivedShape(method.getName(), domainType);
+    }
+
+    private String namedQuery(String name, Map<String, Class<?>> entities) {
+        return entities.values().stream()
+                .flatMap(entity -> Arrays.stream(entity.getAnnotationsByType(NamedQuery.class)))
+                .filter(namedQuery -> namedQuery.name().equals(name))
+                .map(NamedQuery::query)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Unknown named query " + name));
+    }
+
+    private QueryShape derivedShape(String methodName, Class<?> domainType) {
+        PartTree tree = new PartTree(methodName, domainType);
+        String table = tableOf(domainType);
+        QueryShape shape = new QueryShape(table);
+        for (Part part : tree.getParts()) {
+            if (INDEXABLE_PARTS.contains(part.getType())) {
+                shape.filter(table, columnOf(domainType, part.getProperty().toDotPath()));
+            }
+        }
+        shape.disjunction = tree.stream().count() > 1;
+        for (Sort.Order order : tree.getSort()) {
+            shape.orderBy(table, columnOf(domainType, order.getProperty()));
+            break;
+        }
+        return shape;
+    }
+
+    private QueryShape jpqlShape(String jpql, Class<?> domainType, Map<String, Class<?>> entities) {
+        Map<String, Class<?>> aliases = new HashMap<>();
+        Class<?> root = null;
+        Matcher from = FROM_ENTITY.matcher(jpql);
+        while (from.find()) {
+            Class<?> entity = entities.getOrDefault(from.group(1), domainType);
+            root = root == null ? entity : root;
+            if (from.group(2) != null && !KEYWORDS.contains(from.group(2).toLowerCase(Locale.ROOT))) {
+                aliases.put(from.group(2), entity);
+            }
+        }
+        Matcher join = JOIN_PATH.matcher(jpql);
+        while (join.find()) {
+            Field field = fieldOf(aliases.get(join.group(1)), join.group(2));
+            aliases.put(join.group(3), targetType(field));
+        }
+
+        QueryShape shape = new QueryShape(tableOf(root != null ? root : domainType));
+        String where = whereClause(jpql);
+        Matcher predicate = PREDICATE.matcher(where);
+        while (predicate.find()) {
+            if (isIndexable(predicate.group(2))) {
+                addJpqlColumn(shape, predicate.group(1), aliases, root, false);
+            }
+        }
+        shape.disjunction = DISJUNCTION.matcher(where).find();
+        Matcher orderBy = ORDER_BY.matcher(jpql);
+        if (orderBy.find()) {
+            addJpqlColumn(shape, orderBy.group(1), aliases, root, true);
+        }
+        return shape;
+    }
+
+    private void addJpqlColumn(QueryShape shape, String path, Map<String, Class<?>> aliases, Class<?> root, boolean order) {
+        String[] segments = path.split("\\.", 2);
+        Class<?> entity = aliases.get(segments[0]);
+        String property = segments.length > 1 ? segments[1] : path;
+        if (entity == null) {
+            entity = root;
+            property = path;
+        }
+        String column = columnOf(entity, property);
+        if (column == null) {
+            return;
+        }
+        if (order) {
+            shape.orderBy(tableOf(entity), column);
+        } else {
+            shape.filter(tableOf(entity), column);
+        }
+    }
+
+    private QueryShape nativeShape(String sql) {
+        // Assignments are not filters, and each CTE or sub-select may read a different table
+        String statement = SET_CLAUSE.matcher(sql).replaceAll(" ");
+        Map<String, String> aliases = new HashMap<>();
+        TreeMap<Integer, String> tablesByPosition = new TreeMap<>();
+        Matcher from = FROM_ENTITY.matcher(statement);
+        while (from.find()) {
+            String table = from.group(1).toLowerCase(Locale.ROOT);
+            tablesByPosition.put(from.start(), table);
+            if (from.group(2) != null && !KEYWORDS.contains(from.group(2).toLowerCase(Locale.ROOT))) {
+                aliases.put(from.group(2), table);
+            }
+        }
+
+        QueryShape shape = new QueryShape(tablesByPosition.isEmpty() ? null : tablesByPosition.firstEntry().getValue());
+        Matcher predicate = PREDICATE.matcher(statement);
+        while (predicate.find()) {
+            Map.Entry<Integer, String> preceding = tablesByPosition.floorEntry(predicate.start());
+            if (preceding == null || !isIndexable(predicate.group(2))) {
+                continue;
+            }
+            String[] segments = predicate.group(1).split("\\.", 2);
+            if (segments.length > 1) {
+                shape.filter(aliases.getOrDefault(segments[0], preceding.getValue()), segments[1].toLowerCase(Locale.ROOT));
+            } else {
+                shape.filter(preceding.getValue(), segments[0].toLowerCase(Locale.ROOT));
+            }
+        }
+        shape.disjunction = DISJUNCTION.matcher(statement).find();
+        return shape;
+    }
+
+    private String whereClause(String query) {
+        String lower = query.toLowerCase(Locale.ROOT);
+        int where = lower.indexOf(" where ");
+        if (where < 0) {
+            return "";
+        }
+        int orderBy = lower.lastIndexOf(" order by ");
+        return query.substring(where + 7, orderBy > where ? orderBy : query.length());
+    }
+
+    private boolean isIndexable(String operator) {
+        String op = operator.toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+        return !(op.equals("<>") || op.equals("!=") || op.equals("like")
+                || op.startsWith("is not") || op.startsWith("in (") || op.startsWith("in(select"));
+    }
+
+    private String tableOf(Class<?> entity) {
+        Table table = entity.getAnnotation(Table.class);
+        return table != null && !table.name().isEmpty()
+                ? table.name().toLowerCase(Locale.ROOT)
+                : snakeCase(entity.getSimpleName());
+    }
+
+    private String columnOf(Class<?> entity, String path) {
+        String[] segments = path.split("\\.");
+        Field field = fieldOf(entity, segments[0]);
+        if (field == null) {
+            return null;
+        }
+        JoinColumn joinColumn = field.getAnnotation(JoinColumn.class);
+        if (joinColumn != null && !joinColumn.name().isEmpty()) {
+            return joinColumn.name().toLowerCase(Locale.ROOT);
+        }
+        if (segments.length > 1) {
+            return segments[1].equals("id") ? snakeCase(field.getName()) + "_id" : null;
+        }
+        Column column = field.getAnnotation(Column.class);
+        if (column != null && !column.name().isEmpty()) {
+            return column.name().toLowerCase(Locale.ROOT);
+        }
+        return snakeCase(field.getName());
+    }
+
+    private Field fieldOf(Class<?> type, String name) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            try {
+                return current.getDeclaredField(name);
+            } catch (NoSuchFieldException ignored) {
+                // keep walking up to the mapped superclass
+            }
+        }
+        return null;
+    }
+
+    private Class<?> targetType(Field field) {
+        if (field.getGenericType() instanceof ParameterizedType collection) {
+            return (Class<?>) collection.getActualTypeArguments()[0];
+        }
+        return field.getType();
+    }
+
+    private String snakeCase(String name) {
+        return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT);
+    }
+
+    private static class QueryShape {
+        private final String table;
+        private final Map<String, Set<String>> filters = new LinkedHashMap<>();
+        private final Map<String, String> orderBy = new LinkedHashMap<>();
+        private boolean disjunction;
+
+        QueryShape(String table) {
+            this.table = table;
+        }
+
+        void filter(String table, String column) {
+            filters.computeIfAbsent(table, t -> new HashSet<>()).add(column);
+        }
+
+        void orderBy(String table, String column) {
+            orderBy.putIfAbsent(table, column);
+        }
+
+        boolean isCoveredBy(Map<String, Set<String>> leadingColumns) {
+            if (filters.isEmpty()) {
+                return orderBy.entrySet().stream()
+                        .allMatch(order -> leadingColumns.getOrDefault(order.getKey(), Set.of()).contains(order.getValue()));
+            }
+            if (disjunction) {
+                return filters.entrySet().stream()
+                        .allMatch(filter -> leadingColumns.getOrDefault(filter.getKey(), Set.of()).containsAll(filter.getValue()));
+            }
+            // The index has to be on the table being read, so a key on a joined table does not count
+            Map<String, Set<String>> driving = filters.containsKey(table) ? Map.of(table, filters.get(table)) : filters;
+            return driving.entrySet().stream()
+                    .allMatch(filter -> filter.getValue().stream()
+                            .anyMatch(leadingColumns.getOrDefault(filter.getKey(), Set.of())::contains));
+        }
+    }
+}